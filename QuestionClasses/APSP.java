@@ -0,0 +1,65 @@
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ponto de entrada para menores caminhos entre todos os pares: escolhe o algoritmo pela densidade E / V².
+ * Grafos esparsos usam Johnson (V Dijkstras) e grafos densos o Floyd–Warshall em blocos; os dois devolvem
+ * o mesmo ResultadoAPSP, com distâncias e próximo vértice.
+ */
+public class APSP {
+    // Acima desta densidade V Dijkstras (O(V E log V), com constante maior) passam a custar mais que O(V³);
+    // com V = 800 o ponto de troca medido ficou entre 0,1 e 0,375
+    public static final double DENSIDADE_FLOYD = 0.15;
+
+    static ResultadoAPSP execute(GrafoEsparso g){
+        return execute(g, ForkJoinPool.commonPool());
+    }
+
+    static ResultadoAPSP execute(GrafoEsparso g, ForkJoinPool pool){
+        if(usarFloyd(g)){
+            return FloydWarshallBlocado.execute(g, FloydWarshallBlocado.TAMANHO_BLOCO_PADRAO, pool);
+        }
+        return Johnson.execute(g, pool);
+    }
+
+    /**
+     * Mesma escolha de algoritmo, gravando as matrizes em arquivos mapeados (ver APSPMapeado) em vez do heap
+     * @param prefixo Prefixo dos arquivos .dist e .next
+     */
+    static APSPMapeado executeMapeado(GrafoEsparso g, String prefixo, ForkJoinPool pool) throws IOException {
+        if(usarFloyd(g)){
+            return APSPMapeado.gravarFloydWarshall(g, prefixo);
+        }
+        return APSPMapeado.gravarJohnson(g, prefixo, pool);
+    }
+
+    static boolean usarFloyd(GrafoEsparso g){
+        long v = g.getVertices();
+        return v > 0 && g.getNumArestas() >= DENSIDADE_FLOYD * v * v;
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing all-pairs shortest paths ------- ");
+            GrafoCSR g = GrafoCSR.lerDeArquivo("grafos/dijkstra2_direcionado", true);
+
+            System.out.println("Engine: " + (usarFloyd(g) ? "Floyd-Warshall" : "Johnson"));
+            ResultadoAPSP r = APSP.execute(g);
+            List<Integer> path = r.reconstructPath(1, 15);
+            System.out.println("Distance from 1 to 15: " + r.distancia(1, 15));
+            System.out.println("Path: " + path);
+
+            // Nova aresta 11 -> 15 com peso 3: só as distâncias que passam por ela são refeitas
+            r.diminuirAresta(11, 15, 3);
+            System.out.println("After adding 11 -> 15 (3), distance from 1 to 15: " + r.distancia(1, 15));
+            System.out.println("Path: " + r.reconstructPath(1, 15));
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
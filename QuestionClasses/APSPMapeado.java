@@ -0,0 +1,338 @@
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Menores caminhos entre todos os pares guardados em arquivos mapeados em memória, para matrizes que não cabem no heap
+ * (com n = 50 000, só dist ocupa 10 GB). As matrizes ficam em dois arquivos, prefixo + ".dist" e prefixo + ".next",
+ * cada um com um cabeçalho (identificador e n) seguido das n linhas de n inteiros little-endian, no mesmo formato de
+ * ResultadoAPSP. Os arquivos são escritos por faixas de linhas e lidos sem etapa de carga: abrir só mapeia os arquivos,
+ * e o sistema operacional traz para a memória as páginas consultadas, compartilhando-as entre processos.
+ * Regravar os arquivos de um prefixo invalida os leitores que já os tenham aberto.
+ */
+public class APSPMapeado {
+    private static final int INF = ResultadoAPSP.INF;
+    private static final int IDENTIFICADOR = 0x41505350; // "APSP"
+    private static final int CABECALHO = 8;
+    // Cada mapeamento é limitado a 2 GB; os arquivos são mapeados em segmentos de linhas inteiras até 1 GB
+    private static final long BYTES_SEGMENTO = 1L << 30;
+    // Memória usada pelo Floyd–Warshall em faixas: a faixa do pivô e a faixa em atualização, cada uma com dist, next e saltos
+    public static final long BYTES_FAIXAS_PADRAO = 64L << 20;
+
+    public final int n;
+    private final Matriz dist;
+    private final Matriz next;
+
+    private APSPMapeado(Matriz dist, Matriz next) {
+        this.n = dist.n;
+        this.dist = dist;
+        this.next = next;
+    }
+
+    /**
+     * Abre para consulta as matrizes gravadas com o prefixo dado
+     * @throws IOException Se os arquivos não existirem ou não estiverem no formato esperado
+     */
+    public static APSPMapeado abrir(String prefixo) throws IOException {
+        Matriz dist = Matriz.abrir(Paths.get(prefixo + ".dist"), -1, false);
+        Matriz next = Matriz.abrir(Paths.get(prefixo + ".next"), dist.n, false);
+        return new APSPMapeado(dist, next);
+    }
+
+    // Distância de u até v (1-based), ou INF se não houver caminho
+    public int distancia(int u, int v) {
+        return dist.get(u-1, v-1);
+    }
+
+    /**
+     * Reconstrói o menor caminho seguindo a matriz next, como ResultadoAPSP.reconstructPath. Como os arquivos podem
+     * ter sido gravados por outro processo, o caminho é limitado a n vértices em vez de confiar que next não tem ciclos
+     * @param u Vértice inicial (1-based)
+     * @param v Vértice final (1-based)
+     * @return Os vértices do caminho (1-based), ou null se não existir caminho
+     * @throws IllegalStateException Se next levar a um vértice inválido ou não chegar a v em n passos
+     */
+    public List<Integer> reconstructPath(int u, int v) {
+        if (next.get(u-1, v-1) == -1) return null;
+
+        List<Integer> path = new ArrayList<>();
+        path.add(u);
+        while (u != v) {
+            int proximo = next.get(u-1, v-1);
+            if (proximo < 0 || proximo >= n || path.size() == n) {
+                throw new IllegalStateException("Matriz next inválida no caminho de " + path.get(0) + " a " + v);
+            }
+            u = proximo + 1;
+            path.add(u);
+        }
+        return path;
+    }
+
+    /**
+     * Calcula as matrizes com Johnson e grava cada linha no arquivo assim que ela fica pronta
+     * @param g Grafo em formato CSR
+     * @param prefixo Prefixo dos arquivos .dist e .next, que são sobrescritos
+     * @param pool Pool onde os Dijkstras são executados
+     * @return As matrizes gravadas, já abertas para consulta
+     * @throws IllegalArgumentException Se o grafo tiver um ciclo negativo
+     */
+    static APSPMapeado gravarJohnson(GrafoEsparso g, String prefixo, ForkJoinPool pool) throws IOException {
+        int n = g.getVertices();
+        Matriz dist = Matriz.abrir(Paths.get(prefixo + ".dist"), n, true);
+        Matriz next = Matriz.abrir(Paths.get(prefixo + ".next"), n, true);
+
+        // Cada origem escreve só a própria linha, então as threads nunca escrevem na mesma região
+        Johnson.executarLinhas(g, pool, (s, d, p) -> {
+            dist.gravarLinhas(s, 1, d);
+            next.gravarLinhas(s, 1, p);
+        });
+        dist.force();
+        next.force();
+        return new APSPMapeado(dist, next);
+    }
+
+    static APSPMapeado gravarFloydWarshall(GrafoEsparso g, String prefixo) throws IOException {
+        long linhas = BYTES_FAIXAS_PADRAO / (24L * Math.max(1, g.getVertices()));
+        return gravarFloydWarshall(g, prefixo, (int) Math.max(1, Math.min(linhas, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Floyd–Warshall fora do heap, por faixas de linhas. Para cada faixa de pivôs K, a faixa é fechada sobre si mesma
+     * e copiada para a memória; depois cada outra faixa é lida, relaxada com as linhas de K e regravada. Só duas faixas
+     * ficam no heap, e o arquivo inteiro é percorrido uma vez por faixa de pivôs. Os saltos de cada caminho, usados
+     * no desempate do kernel (ver KernelMinPlus), ficam em um terceiro arquivo, prefixo + ".saltos", apagado no fim.
+     * @param g Grafo em formato CSR (pesos podem ser negativos, sem ciclos negativos)
+     * @param prefixo Prefixo dos arquivos .dist e .next, que são sobrescritos
+     * @param linhasPorFaixa Linhas em cada faixa; o heap usado é de 24 * linhasPorFaixa * n bytes
+     * @return As matrizes gravadas, já abertas para consulta
+     */
+    static APSPMapeado gravarFloydWarshall(GrafoEsparso g, String prefixo, int linhasPorFaixa) throws IOException {
+        int n = g.getVertices();
+        int b = Math.max(1, Math.min(linhasPorFaixa, n));
+        Matriz dist = Matriz.abrir(Paths.get(prefixo + ".dist"), n, true);
+        Matriz next = Matriz.abrir(Paths.get(prefixo + ".next"), n, true);
+        Path arquivoSaltos = Paths.get(prefixo + ".saltos");
+        Matriz saltos = Matriz.abrir(arquivoSaltos, n, true);
+
+        int[] pivoDist = new int[b * n], pivoNext = new int[b * n], pivoSaltos = new int[b * n];
+        int[] faixaDist = new int[b * n], faixaNext = new int[b * n], faixaSaltos = new int[b * n];
+
+        // Matrizes iniciais, como em ResultadoAPSP.inicial
+        for (int f = 0; f < n; f += b) {
+            int linhas = Math.min(b, n - f);
+            Arrays.fill(faixaDist, 0, linhas * n, INF);
+            Arrays.fill(faixaNext, 0, linhas * n, -1);
+            Arrays.fill(faixaSaltos, 0, linhas * n, 0);
+            for (int u = f; u < f + linhas; u++) {
+                int base = (u - f) * n;
+                faixaDist[base + u] = 0;
+                faixaNext[base + u] = u;
+                for (int e = g.inicio(u); e < g.fim(u); e++) {
+                    int v = g.destino(e);
+                    if (g.peso(e) < faixaDist[base + v]) {
+                        faixaDist[base + v] = g.peso(e);
+                        faixaNext[base + v] = v;
+                        faixaSaltos[base + v] = 1;
+                    }
+                }
+            }
+            dist.gravarLinhas(f, linhas, faixaDist);
+            next.gravarLinhas(f, linhas, faixaNext);
+            saltos.gravarLinhas(f, linhas, faixaSaltos);
+        }
+
+        for (int k0 = 0; k0 < n; k0 += b) {
+            int pivos = Math.min(b, n - k0);
+            dist.lerLinhas(k0, pivos, pivoDist);
+            next.lerLinhas(k0, pivos, pivoNext);
+            saltos.lerLinhas(k0, pivos, pivoSaltos);
+            fecharPivos(pivoDist, pivoNext, pivoSaltos, n, k0, pivos);
+            dist.gravarLinhas(k0, pivos, pivoDist);
+            next.gravarLinhas(k0, pivos, pivoNext);
+            saltos.gravarLinhas(k0, pivos, pivoSaltos);
+
+            for (int f = 0; f < n; f += b) {
+                if (f == k0) continue;
+                int linhas = Math.min(b, n - f);
+                dist.lerLinhas(f, linhas, faixaDist);
+                next.lerLinhas(f, linhas, faixaNext);
+                saltos.lerLinhas(f, linhas, faixaSaltos);
+                relaxarFaixa(faixaDist, faixaNext, faixaSaltos, linhas, pivoDist, pivoSaltos, n, k0, pivos);
+                dist.gravarLinhas(f, linhas, faixaDist);
+                next.gravarLinhas(f, linhas, faixaNext);
+                saltos.gravarLinhas(f, linhas, faixaSaltos);
+            }
+        }
+        dist.force();
+        next.force();
+        try {
+            Files.deleteIfExists(arquivoSaltos);
+        } catch (IOException e) {
+            // Sistemas que não apagam arquivos ainda mapeados
+            arquivoSaltos.toFile().deleteOnExit();
+        }
+        return new APSPMapeado(dist, next);
+    }
+
+    // Floyd–Warshall da faixa de pivôs sobre si mesma, com k percorrendo as próprias linhas da faixa
+    private static void fecharPivos(int[] dist, int[] next, int[] saltos, int n, int k0, int pivos) {
+        for (int k = 0; k < pivos; k++) {
+            int linhaK = k * n;
+            for (int i = 0; i < pivos; i++) {
+                int linhaI = i * n;
+                int dik = dist[linhaI + k0 + k];
+                if (dik >= INF) continue;
+                KernelMinPlus.PADRAO.relaxar(dist, next, saltos, linhaI, dist, saltos, linhaK, 0, n,
+                        dik, next[linhaI + k0 + k], saltos[linhaI + k0 + k]);
+            }
+        }
+    }
+
+    /**
+     * Relaxa uma faixa com os pivôs já fechados. Como as linhas dos pivôs não mudam aqui, a mesma linha i é
+     * reaproveitada para todos os k antes de passar à próxima, como em FloydWarshallBlocado.atualizarBlocoIndependente
+     */
+    private static void relaxarFaixa(int[] dist, int[] next, int[] saltos, int linhas, int[] pivoDist, int[] pivoSaltos,
+                                     int n, int k0, int pivos) {
+        for (int i = 0; i < linhas; i++) {
+            int linhaI = i * n;
+            for (int k = 0; k < pivos; k++) {
+                int dik = dist[linhaI + k0 + k];
+                if (dik >= INF) continue;
+                KernelMinPlus.PADRAO.relaxar(dist, next, saltos, linhaI, pivoDist, pivoSaltos, k * n, 0, n,
+                        dik, next[linhaI + k0 + k], saltos[linhaI + k0 + k]);
+            }
+        }
+    }
+
+    /**
+     * Matriz n x n de inteiros em um arquivo mapeado, dividida em segmentos de linhas inteiras.
+     * As leituras e escritas usam índices absolutos, então threads diferentes podem acessar linhas diferentes.
+     */
+    private static final class Matriz {
+        final int n;
+        private final int linhasPorSegmento;
+        private final MappedByteBuffer[] mapas;
+        private final IntBuffer[] segmentos;
+
+        private Matriz(int n, int linhasPorSegmento, MappedByteBuffer[] mapas) {
+            this.n = n;
+            this.linhasPorSegmento = linhasPorSegmento;
+            this.mapas = mapas;
+            this.segmentos = new IntBuffer[mapas.length];
+            for (int i = 0; i < mapas.length; i++) {
+                segmentos[i] = mapas[i].order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            }
+        }
+
+        /**
+         * Mapeia o arquivo. Na escrita o arquivo é recriado com o tamanho de uma matriz n x n; na leitura o cabeçalho
+         * é validado e, se n >= 0, precisa coincidir com o esperado
+         */
+        static Matriz abrir(Path arquivo, int n, boolean escrita) throws IOException {
+            try (FileChannel canal = escrita
+                    ? FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                            StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                MappedByteBuffer cabecalho;
+                if (escrita) {
+                    cabecalho = canal.map(FileChannel.MapMode.READ_WRITE, 0, CABECALHO);
+                    cabecalho.order(ByteOrder.LITTLE_ENDIAN).putInt(0, IDENTIFICADOR).putInt(4, n);
+                } else {
+                    if (canal.size() < CABECALHO) throw new IOException("Arquivo APSP inválido: " + arquivo);
+                    cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, CABECALHO);
+                    cabecalho.order(ByteOrder.LITTLE_ENDIAN);
+                    if (cabecalho.getInt(0) != IDENTIFICADOR) throw new IOException("Arquivo APSP inválido: " + arquivo);
+                    int lido = cabecalho.getInt(4);
+                    if (lido < 0 || (n >= 0 && lido != n)) {
+                        throw new IOException("Tamanho de matriz inesperado em " + arquivo + ": " + lido);
+                    }
+                    n = lido;
+                    if (canal.size() != CABECALHO + 4L * n * n) {
+                        throw new IOException("Arquivo APSP incompleto: " + arquivo);
+                    }
+                }
+
+                long bytesLinha = 4L * n;
+                int linhasPorSegmento = (int) Math.max(1, Math.min(n, BYTES_SEGMENTO / Math.max(1, bytesLinha)));
+                int quantidade = n == 0 ? 0 : (n + linhasPorSegmento - 1) / linhasPorSegmento;
+                MappedByteBuffer[] mapas = new MappedByteBuffer[quantidade];
+                FileChannel.MapMode modo = escrita ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+                for (int s = 0; s < quantidade; s++) {
+                    int linhas = Math.min(linhasPorSegmento, n - s * linhasPorSegmento);
+                    // Mapear além do fim estende o arquivo na escrita; o mapeamento continua válido após fechar o canal
+                    mapas[s] = canal.map(modo, CABECALHO + s * linhasPorSegmento * bytesLinha, linhas * bytesLinha);
+                }
+                if (escrita) cabecalho.force();
+                return new Matriz(n, linhasPorSegmento, mapas);
+            }
+        }
+
+        int get(int i, int j) {
+            return segmentos[i / linhasPorSegmento].get((i % linhasPorSegmento) * n + j);
+        }
+
+        // Copia as linhas [primeira, primeira + quantidade) para destino, linha após linha
+        void lerLinhas(int primeira, int quantidade, int[] destino) {
+            for (int l = 0; l < quantidade; l++) {
+                int i = primeira + l;
+                segmentos[i / linhasPorSegmento].get((i % linhasPorSegmento) * n, destino, l * n, n);
+            }
+        }
+
+        void gravarLinhas(int primeira, int quantidade, int[] origem) {
+            for (int l = 0; l < quantidade; l++) {
+                int i = primeira + l;
+                segmentos[i / linhasPorSegmento].put((i % linhasPorSegmento) * n, origem, l * n, n);
+            }
+        }
+
+        void force() {
+            for (MappedByteBuffer mapa : mapas) {
+                mapa.force();
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing memory-mapped all-pairs shortest paths ------- ");
+            GrafoCSR g = GrafoCSR.lerDeArquivo("grafos/dijkstra2_direcionado", true);
+            Path pasta = Files.createTempDirectory("apsp");
+            String prefixo = pasta.resolve("dijkstra2").toString();
+
+            APSPMapeado.gravarFloydWarshall(g, prefixo, 4);
+            APSPMapeado r = APSPMapeado.abrir(prefixo);
+            System.out.println("Distance from 1 to 15: " + r.distancia(1, 15));
+            System.out.println("Path: " + r.reconstructPath(1, 15));
+
+            // Ciclo de peso zero entre 2 e 3, gravado em faixas de 2 linhas
+            GrafoCSR zero = GrafoCSR.lerDeArquivo("grafos/ciclo_zero_direcionado", true);
+            APSPMapeado.gravarFloydWarshall(zero, prefixo, 2);
+            APSPMapeado rz = APSPMapeado.abrir(prefixo);
+            System.out.println("Zero-weight cycle, distance from 2 to 1: " + rz.distancia(2, 1));
+            System.out.println("Path: " + rz.reconstructPath(2, 1));
+
+            for (String extensao : new String[]{".dist", ".next"}) {
+                Files.deleteIfExists(Paths.get(prefixo + extensao));
+            }
+            Files.deleteIfExists(pasta);
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
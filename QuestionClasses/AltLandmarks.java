@@ -0,0 +1,257 @@
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+import Miscs.HeapIndexado;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Busca A* com landmarks e desigualdade triangular (ALT).
+ * No pré-processamento são escolhidos k landmarks por seleção do mais distante e guardadas, para cada um,
+ * as distâncias dele para todos os vértices (busca direta) e de todos os vértices até ele (busca no grafo reverso).
+ * Essas tabelas dão um limite inferior admissível para d(v, alvo), usado como heurística do A*.
+ */
+public class AltLandmarks {
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int MAGICO = 0x414C5431; // "ALT1"
+
+    private final int[] landmarks;
+    private final int[][] distDe; // distDe[l][v] = d(landmark l, v)
+    private final int[][] distAte; // distAte[l][v] = d(v, landmark l)
+    private final long assinatura; // Identifica a versão do grafo usada no pré-processamento
+
+    private AltLandmarks(int[] landmarks, int[][] distDe, int[][] distAte, long assinatura) {
+        this.landmarks = landmarks;
+        this.distDe = distDe;
+        this.distAte = distAte;
+        this.assinatura = assinatura;
+    }
+
+    public int[] getLandmarks() {
+        return landmarks;
+    }
+
+    /**
+     * Escolhe k landmarks e calcula as tabelas de distância
+     * @param g Grafo em formato CSR
+     * @param reverso Grafo transposto de g
+     * @param k Número de landmarks
+     * @return As tabelas prontas para consultas
+     */
+    static AltLandmarks preprocessar(GrafoEsparso g, GrafoEsparso reverso, int k){
+        int n = g.getVertices();
+        k = Math.min(k, n);
+        int[] landmarks = new int[k];
+        int[][] distDe = new int[k][];
+        int[][] distAte = new int[k][];
+
+        // menorSoma[v] = menor d(l, v) + d(v, l) entre os landmarks já escolhidos
+        long[] menorSoma = new long[n];
+        Arrays.fill(menorSoma, Long.MAX_VALUE);
+
+        int proximo = 0;
+        for(int l = 0; l < k; l++){
+            landmarks[l] = proximo;
+            distDe[l] = distancias(g, proximo);
+            distAte[l] = distancias(reverso, proximo);
+
+            // Seleção do mais distante: o próximo landmark é o vértice alcançável mais longe de todos os anteriores
+            proximo = -1;
+            long maior = -1;
+            for(int v = 0; v < n; v++){
+                long soma = (distDe[l][v] == INF ? 0 : distDe[l][v]) + (long) (distAte[l][v] == INF ? 0 : distAte[l][v]);
+                menorSoma[v] = Math.min(menorSoma[v], soma);
+                if(menorSoma[v] > maior && !ehLandmark(landmarks, l + 1, v)){
+                    maior = menorSoma[v];
+                    proximo = v;
+                }
+            }
+            if(proximo == -1){
+                landmarks = Arrays.copyOf(landmarks, l + 1);
+                distDe = Arrays.copyOf(distDe, l + 1);
+                distAte = Arrays.copyOf(distAte, l + 1);
+                break;
+            }
+        }
+
+        return new AltLandmarks(landmarks, distDe, distAte, assinatura(g));
+    }
+
+    private static boolean ehLandmark(int[] landmarks, int quantidade, int v){
+        for(int i = 0; i < quantidade; i++){
+            if(landmarks[i] == v) return true;
+        }
+        return false;
+    }
+
+    // Dijkstra completo a partir de origem (0-based), retornando só as distâncias
+    private static int[] distancias(GrafoEsparso g, int origem){
+        int n = g.getVertices();
+        int[] dist = new int[n];
+        Arrays.fill(dist, INF);
+        HeapIndexado heap = new HeapIndexado(n);
+        dist[origem] = 0;
+        heap.inserirOuDiminuir(origem, 0);
+        while(!heap.vazio()){
+            int x = heap.removerMinimo();
+            for(int e = g.inicio(x); e < g.fim(x); e++){
+                int y = g.destino(e);
+                int nova = dist[x] + g.peso(e);
+                if(nova < dist[y]){
+                    dist[y] = nova;
+                    heap.inserirOuDiminuir(y, nova);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Limite inferior para d(v, t) pela desigualdade triangular:
+     * d(v, t) >= d(v, L) - d(t, L)  e  d(v, t) >= d(L, t) - d(L, v)
+     */
+    int heuristica(int v, int t){
+        long melhor = 0;
+        for(int l = 0; l < landmarks.length; l++){
+            if(distAte[l][v] != INF && distAte[l][t] != INF){
+                melhor = Math.max(melhor, (long) distAte[l][v] - distAte[l][t]);
+            }
+            if(distDe[l][t] != INF && distDe[l][v] != INF){
+                melhor = Math.max(melhor, (long) distDe[l][t] - distDe[l][v]);
+            }
+        }
+        return (int) melhor;
+    }
+
+    /**
+     * Consulta s -> target com A* guiado pelos landmarks
+     * @param g O mesmo grafo usado no pré-processamento
+     * @param s Vértice raiz (1-based)
+     * @param target Vértice alvo (1-based)
+     * @return Uma classe com os dados obtidos, no mesmo formato de Dijkstra.execute; apenas os vértices
+     *         visitados pela busca têm distância exata
+     */
+    DijkstraResult consultar(GrafoEsparso g, int s, int target){
+        int n = g.getVertices();
+        if(target-1 < 0 || target-1 >= n){
+            return DijkstraHeap.execute(g, s, target);
+        }
+        int t = target-1;
+
+        DijkstraResult dr = new DijkstraResult(n, s);
+        HeapIndexado heap = new HeapIndexado(n);
+        for(int i = 0; i < n; i++){
+            dr.distance[i] = INF;
+        }
+        dr.distance[s-1] = 0;
+        heap.inserirOuDiminuir(s-1, heuristica(s-1, t));
+
+        while(!heap.vazio()){
+            int x = heap.removerMinimo();
+            dr.visited.set(x);
+            // Heurística consistente: o alvo tem distância exata quando é retirado do heap
+            if(x == t) break;
+
+            for(int e = g.inicio(x); e < g.fim(x); e++){
+                int y = g.destino(e);
+                int nova = somar(dr.distance[x], g.peso(e));
+                if(!dr.visited.get(y) && nova < dr.distance[y]){
+                    dr.distance[y] = nova;
+                    dr.predecessor[y] = x;
+                    heap.inserirOuDiminuir(y, somar(nova, heuristica(y, t)));
+                }
+            }
+        }
+
+        Dijkstra.buildPath(dr, n, s, target);
+        return dr;
+    }
+
+    // Soma que satura em INF em vez de transbordar para uma chave negativa
+    private static int somar(int a, int b){
+        return (int) Math.min(INF, (long) a + b);
+    }
+
+    // Resumo das arestas do grafo, usado para detectar tabelas geradas para outra versão do grafo
+    static long assinatura(GrafoEsparso g){
+        long h = 1125899906842597L;
+        h = 31 * h + g.getVertices();
+        h = 31 * h + g.getNumArestas();
+        for(int u = 0; u < g.getVertices(); u++){
+            h = 31 * h + g.fim(u);
+        }
+        for(int e = 0; e < g.getNumArestas(); e++){
+            h = 31 * h + g.destino(e);
+            h = 31 * h + g.peso(e);
+        }
+        return h;
+    }
+
+    /**
+     * Grava as tabelas de landmarks em disco, para que o pré-processamento rode uma vez por versão do grafo
+     */
+    void salvar(String caminhoArquivo) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(caminhoArquivo)))) {
+            int n = distDe.length == 0 ? 0 : distDe[0].length;
+            out.writeInt(MAGICO);
+            out.writeLong(assinatura);
+            out.writeInt(n);
+            out.writeInt(landmarks.length);
+            for(int l = 0; l < landmarks.length; l++){
+                out.writeInt(landmarks[l]);
+                for(int v = 0; v < n; v++) out.writeInt(distDe[l][v]);
+                for(int v = 0; v < n; v++) out.writeInt(distAte[l][v]);
+            }
+        }
+    }
+
+    /**
+     * Carrega tabelas gravadas por salvar()
+     * @param caminhoArquivo Arquivo das tabelas
+     * @param g Grafo em que as consultas serão feitas
+     * @throws IOException Se o arquivo for inválido ou tiver sido gerado para outra versão do grafo
+     */
+    static AltLandmarks carregar(String caminhoArquivo, GrafoEsparso g) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(caminhoArquivo)))) {
+            if(in.readInt() != MAGICO){
+                throw new IOException("Arquivo não contém tabelas de landmarks: " + caminhoArquivo);
+            }
+            long assinatura = in.readLong();
+            if(assinatura != assinatura(g)){
+                throw new IOException("Tabelas de landmarks geradas para outra versão do grafo: " + caminhoArquivo);
+            }
+            int n = in.readInt();
+            int k = in.readInt();
+            int[] landmarks = new int[k];
+            int[][] distDe = new int[k][n];
+            int[][] distAte = new int[k][n];
+            for(int l = 0; l < k; l++){
+                landmarks[l] = in.readInt();
+                for(int v = 0; v < n; v++) distDe[l][v] = in.readInt();
+                for(int v = 0; v < n; v++) distAte[l][v] = in.readInt();
+            }
+            return new AltLandmarks(landmarks, distDe, distAte, assinatura);
+        }
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing ALT (A*, landmarks) ------- ");
+            GrafoCSR g = GrafoCSR.deGrafo(Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true));
+            AltLandmarks alt = AltLandmarks.preprocessar(g, g.transposto(), 4);
+
+            DijkstraResult shortest_path = alt.consultar(g, 1, 15);
+            shortest_path.PrintResults();
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
@@ -1,20 +1,29 @@
-import java.util.ArrayList;
+import Miscs.EdgeList;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class BellmanFord {
+    private static final int ARESTAS_POR_TAREFA = 1 << 14;
 
     /**
      * Executa o algoritmo de Bellman-Ford.
      *
-     * @param arestas     Lista de arestas. Cada aresta é um int[3] {origem, destino, peso}
+     * @param arestas     Lista de arestas {origem, destino, peso}
      * @param numVertices O número total de vértices (espera-se 1-based)
      * @param s           O vértice de origem (1-based)
      * @param distancia   Array para armazenar as distâncias
      * @param predecessor Array para armazenar os predecessores
      * @return true se não houver ciclo negativo, false caso contrário
      */
-    public static boolean bellmanFord(List<int[]> arestas, int numVertices, int s, double[] distancia, int[] predecessor) {
+    public static boolean bellmanFord(EdgeList arestas, int numVertices, int s, double[] distancia, int[] predecessor) {
         // Inicializa distâncias
         for (int i = 1; i <= numVertices; i++) {
             distancia[i] = Double.POSITIVE_INFINITY;
@@ -24,10 +33,10 @@ public class BellmanFord {
 
         // Relaxa arestas repetidamente
         for (int i = 1; i <= numVertices - 1; i++) {
-            for (int[] aresta : arestas) {
-                int u = aresta[0];
-                int v = aresta[1];
-                int w = aresta[2];
+            for (int e = 0; e < arestas.size(); e++) {
+                int u = arestas.src(e);
+                int v = arestas.dst(e);
+                int w = arestas.weight(e);
 
                 if (distancia[u] == Double.POSITIVE_INFINITY) {
                     continue;
@@ -41,10 +50,10 @@ public class BellmanFord {
         }
 
         // Detecta ciclos negativos
-        for (int[] aresta : arestas) {
-            int u = aresta[0];
-            int v = aresta[1];
-            int w = aresta[2];
+        for (int e = 0; e < arestas.size(); e++) {
+            int u = arestas.src(e);
+            int v = arestas.dst(e);
+            int w = arestas.weight(e);
 
             if (distancia[u] == Double.POSITIVE_INFINITY) {
                 continue;
@@ -58,6 +67,304 @@ public class BellmanFord {
         return true; // Nenhum ciclo de peso negativo
     }
 
+    /**
+     * Executa o algoritmo de Bellman-Ford sobre um grafo em formato CSR.
+     *
+     * @param g           Grafo em formato CSR, em memória ou mapeado de arquivo (vértices 0-based)
+     * @param s           O vértice de origem (0-based)
+     * @param distancia   Array de tamanho V para armazenar as distâncias
+     * @param predecessor Array de tamanho V para armazenar os predecessores
+     * @return true se não houver ciclo negativo, false caso contrário
+     */
+    public static boolean bellmanFord(GrafoEsparso g, int s, double[] distancia, int[] predecessor) {
+        int n = g.getVertices();
+        for (int i = 0; i < n; i++) {
+            distancia[i] = Double.POSITIVE_INFINITY;
+            predecessor[i] = -1;
+        }
+        distancia[s] = 0;
+
+        // Relaxa as arestas de saída de cada vértice repetidamente
+        for (int i = 1; i <= n - 1; i++) {
+            for (int u = 0; u < n; u++) {
+                if (distancia[u] == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int e = g.inicio(u); e < g.fim(u); e++) {
+                    int v = g.destino(e);
+                    if (distancia[v] > distancia[u] + g.peso(e)) {
+                        distancia[v] = distancia[u] + g.peso(e);
+                        predecessor[v] = u;
+                    }
+                }
+            }
+        }
+
+        // Detecta ciclos negativos
+        for (int u = 0; u < n; u++) {
+            if (distancia[u] == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            for (int e = g.inicio(u); e < g.fim(u); e++) {
+                if (distancia[g.destino(e)] > distancia[u] + g.peso(e)) {
+                    return false; // Ciclo de peso negativo detectado
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Bellman-Ford guiado por fila (SPFA) com desmontagem de subárvores de Tarjan.
+     * Só as arestas de saída de vértices cuja distância mudou são relaxadas, e o laço termina assim que a fila esvazia.
+     * A árvore de menores caminhos é mantida em pré-ordem (lista duplamente ligada com profundidades): quando a distância
+     * de v diminui, a subárvore de v é desmontada, pois todas as distâncias dela vão diminuir de novo, e os vértices
+     * dela que estiverem na fila deixam de ser processados. Se o vértice u que melhorou v estiver nessa subárvore,
+     * a aresta (u, v) fecha um ciclo negativo, detectado assim que se forma, sem esperar V - 1 passadas.
+     *
+     * @param g           Grafo em formato CSR (vértices 0-based)
+     * @param s           O vértice de origem (0-based)
+     * @param distancia   Array de tamanho V para as distâncias (Long.MAX_VALUE se não alcançável)
+     * @param predecessor Array de tamanho V para os predecessores (-1 para a origem e os não alcançáveis)
+     * @return true se não houver ciclo negativo alcançável a partir de s, false caso contrário
+     */
+    public static boolean spfa(GrafoEsparso g, int s, long[] distancia, int[] predecessor) {
+        int n = g.getVertices();
+        int[] fila = new int[n];
+        boolean[] naFila = new boolean[n];
+        boolean[] naArvore = new boolean[n];
+        int[] proximo = new int[n];
+        int[] anterior = new int[n];
+        int[] profundidade = new int[n];
+        Arrays.fill(distancia, 0, n, Long.MAX_VALUE);
+        Arrays.fill(predecessor, 0, n, -1);
+
+        distancia[s] = 0;
+        naArvore[s] = true;
+        proximo[s] = -1;
+        anterior[s] = -1;
+        fila[0] = s;
+        naFila[s] = true;
+        int inicio = 0, tamanho = 1;
+
+        while (tamanho > 0) {
+            int u = fila[inicio];
+            inicio = inicio + 1 == n ? 0 : inicio + 1;
+            tamanho--;
+            naFila[u] = false;
+            // Vértice desmontado depois de entrar na fila: a distância dele ainda vai diminuir
+            if (!naArvore[u]) {
+                continue;
+            }
+
+            for (int e = g.inicio(u); e < g.fim(u); e++) {
+                int v = g.destino(e);
+                long nova = distancia[u] + g.peso(e);
+                if (nova >= distancia[v]) {
+                    continue;
+                }
+                if (v == u) {
+                    return false;
+                }
+
+                if (naArvore[v]) {
+                    // Desmonta a subárvore de v: os descendentes vêm logo depois dele, com profundidade maior
+                    int x = proximo[v];
+                    while (x != -1 && profundidade[x] > profundidade[v]) {
+                        if (x == u) {
+                            return false; // u descende de v: ciclo de peso negativo
+                        }
+                        naArvore[x] = false;
+                        x = proximo[x];
+                    }
+                    if (v == s) {
+                        return false; // A própria origem melhorou: ciclo de peso negativo
+                    }
+                    proximo[anterior[v]] = x;
+                    if (x != -1) {
+                        anterior[x] = anterior[v];
+                    }
+                }
+
+                // v passa a ser filho de u, logo depois dele na pré-ordem
+                distancia[v] = nova;
+                predecessor[v] = u;
+                naArvore[v] = true;
+                profundidade[v] = profundidade[u] + 1;
+                proximo[v] = proximo[u];
+                anterior[v] = u;
+                if (proximo[u] != -1) {
+                    anterior[proximo[u]] = v;
+                }
+                proximo[u] = v;
+
+                if (!naFila[v]) {
+                    int fim = inicio + tamanho;
+                    fila[fim >= n ? fim - n : fim] = v;
+                    tamanho++;
+                    naFila[v] = true;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bellman-Ford paralelo sobre a lista de arestas. Em cada rodada o vetor de arestas é dividido entre as threads do
+     * pool, e cada relaxamento é um mínimo atômico (compareAndSet) sobre distância e predecessor empacotados em um long,
+     * como em DeltaStepping, então o predecessor gravado sempre corresponde à distância. O laço termina na primeira
+     * rodada sem mudanças.
+     * Um ciclo no grafo de predecessores é sempre um ciclo negativo; ele é procurado nas rodadas 1, 2, 4, 8, ... e em
+     * toda rodada a partir da V-ésima, quando a existência de um ciclo negativo já está garantida.
+     *
+     * @param arestas     Lista de arestas {origem, destino, peso}
+     * @param numVertices O número total de vértices (1-based)
+     * @param s           O vértice de origem (1-based)
+     * @param distancia   Array de tamanho V + 1 para as distâncias (Integer.MAX_VALUE se não alcançável)
+     * @param predecessor Array de tamanho V + 1 para os predecessores (-1 para a origem e os não alcançáveis)
+     * @param pool        Pool onde as rodadas são divididas, ou null para executar na thread atual
+     * @return null se não houver ciclo negativo alcançável; caso contrário, os vértices de um ciclo negativo em ordem
+     * (cada um tem aresta para o seguinte, e o último para o primeiro)
+     * @throws ArithmeticException Se as distâncias saírem do intervalo de int sem que um ciclo seja encontrado
+     */
+    public static int[] bellmanFordParalelo(EdgeList arestas, int numVertices, int s, int[] distancia, int[] predecessor,
+                                            ForkJoinPool pool) {
+        AtomicLongArray estado = new AtomicLongArray(numVertices + 1);
+        for (int v = 0; v <= numVertices; v++) {
+            estado.set(v, empacotar(Integer.MAX_VALUE, -1));
+        }
+        estado.set(s, empacotar(0, -1));
+
+        int[] ciclo = null;
+        AtomicBoolean mudou = new AtomicBoolean();
+        for (int rodada = 1; ; rodada++) {
+            mudou.set(false);
+            Rodada tarefa = new Rodada(arestas, estado, mudou, 0, arestas.size());
+            if (pool != null) pool.invoke(tarefa);
+            else tarefa.compute();
+
+            for (int v = 0; v <= numVertices; v++) {
+                long x = estado.get(v);
+                distancia[v] = (int) (x >> 32);
+                predecessor[v] = (int) x;
+            }
+            if (!mudou.get()) {
+                break;
+            }
+            if ((rodada & (rodada - 1)) == 0 || rodada >= numVertices) {
+                ciclo = cicloDePredecessores(predecessor, numVertices);
+                if (ciclo != null) {
+                    return ciclo;
+                }
+            }
+        }
+
+        // Sem mudanças, mas com distâncias saturadas: o ciclo que as levou até ali deve estar nos predecessores
+        for (int v = 0; v <= numVertices; v++) {
+            if (distancia[v] == Integer.MIN_VALUE) {
+                ciclo = cicloDePredecessores(predecessor, numVertices);
+                if (ciclo == null) {
+                    throw new ArithmeticException("Distâncias fora do intervalo de int");
+                }
+                return ciclo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Procura um ciclo no grafo de predecessores, seguindo os predecessores a partir de cada vértice ainda não visitado.
+     * Cada vértice é visitado uma vez, então o custo é O(V).
+     *
+     * @param predecessor Predecessores (-1 para nenhum), indexados de 0 a numVertices
+     * @return Os vértices do ciclo na ordem das arestas, ou null se o grafo de predecessores for uma floresta
+     */
+    public static int[] cicloDePredecessores(int[] predecessor, int numVertices) {
+        int[] marca = new int[numVertices + 1];
+        for (int inicio = 0; inicio <= numVertices; inicio++) {
+            int v = inicio;
+            while (v != -1 && marca[v] == 0) {
+                marca[v] = inicio + 1;
+                v = predecessor[v];
+            }
+            // Voltou a um vértice marcado neste mesmo percurso: v está no ciclo
+            if (v != -1 && marca[v] == inicio + 1) {
+                int tamanho = 1;
+                for (int x = predecessor[v]; x != v; x = predecessor[x]) {
+                    tamanho++;
+                }
+                int[] ciclo = new int[tamanho];
+                int x = v;
+                for (int i = tamanho - 1; i >= 0; i--) {
+                    ciclo[i] = x;
+                    x = predecessor[x];
+                }
+                return ciclo;
+            }
+        }
+        return null;
+    }
+
+    private static long empacotar(int distancia, int predecessor) {
+        return ((long) distancia << 32) | (predecessor & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Tarefa fork-join que relaxa um trecho [de, ate) do vetor de arestas
+     */
+    private static final class Rodada extends RecursiveAction {
+        private final EdgeList arestas;
+        private final AtomicLongArray estado;
+        private final AtomicBoolean mudou;
+        private final int de;
+        private final int ate;
+
+        Rodada(EdgeList arestas, AtomicLongArray estado, AtomicBoolean mudou, int de, int ate) {
+            this.arestas = arestas;
+            this.estado = estado;
+            this.mudou = mudou;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > ARESTAS_POR_TAREFA && getPool() != null) {
+                int meio = (de + ate) >>> 1;
+                invokeAll(new Rodada(arestas, estado, mudou, de, meio), new Rodada(arestas, estado, mudou, meio, ate));
+                return;
+            }
+
+            boolean local = false;
+            for (int e = de; e < ate; e++) {
+                int du = (int) (estado.get(arestas.src(e)) >> 32);
+                if (du == Integer.MAX_VALUE) {
+                    continue;
+                }
+                // Somas que chegam ao valor de "não alcançável" não melhoram nada; abaixo, satura em Integer.MIN_VALUE
+                long soma = (long) du + arestas.weight(e);
+                if (soma >= Integer.MAX_VALUE) {
+                    continue;
+                }
+                int nova = (int) Math.max(Integer.MIN_VALUE, soma);
+                int v = arestas.dst(e);
+                // Mínimo atômico: tenta até escrever ou até outra thread já ter escrito uma distância menor ou igual
+                long atual = estado.get(v);
+                while (nova < (int) (atual >> 32)) {
+                    if (estado.compareAndSet(v, atual, empacotar(nova, arestas.src(e)))) {
+                        local = true;
+                        break;
+                    }
+                    atual = estado.get(v);
+                }
+            }
+            if (local) {
+                mudou.set(true);
+            }
+        }
+    }
+
     /**
      * Reconstrói o caminho mais curto até um vértice de destino.
      */
@@ -103,15 +410,15 @@ public class BellmanFord {
     /**
      * Adiciona uma aresta à lista.
      */
-    private static void adicionarAresta(List<int[]> arestas, int u, int v, int peso) {
-        arestas.add(new int[]{u, v, peso});
+    private static void adicionarAresta(EdgeList arestas, int u, int v, int peso) {
+        arestas.add(u, v, peso);
     }
 
     /**
      * Cria o grafo de exemplo do Bellman-Ford.
      */
-    private static List<int[]> criarGrafoBellmanFord() {
-        List<int[]> arestas = new ArrayList<>();
+    private static EdgeList criarGrafoBellmanFord() {
+        EdgeList arestas = new EdgeList();
 
         // Vértices são de 1 a 19
         adicionarAresta(arestas, 1, 6, 3);
@@ -156,7 +463,7 @@ public class BellmanFord {
         System.out.println("Executando Bellman-Ford...");
 
         int numVertices = 19;
-        List<int[]> arestas = criarGrafoBellmanFord();
+        EdgeList arestas = criarGrafoBellmanFord();
         double[] distancia = new double[numVertices + 1];
         int[] predecessor = new int[numVertices + 1];
 
@@ -178,5 +485,25 @@ public class BellmanFord {
         } else {
             System.out.println("ERRO: Ciclo de peso negativo detectado.");
         }
+
+        // Mesmo grafo em CSR (o vértice 0 fica isolado), resolvido pela variante com fila
+        GrafoCSR g = GrafoCSR.deArestas(numVertices + 1, arestas, true);
+        long[] distanciaFila = new long[numVertices + 1];
+        int[] predecessorFila = new int[numVertices + 1];
+        if (spfa(g, origemBF, distanciaFila, predecessorFila)) {
+            System.out.println("SPFA: custo de " + origemBF + " a " + destinoBF + " = " + distanciaFila[destinoBF]);
+        } else {
+            System.out.println("SPFA: ciclo de peso negativo detectado.");
+        }
+
+        int[] distanciaParalela = new int[numVertices + 1];
+        int[] predecessorParalelo = new int[numVertices + 1];
+        bellmanFordParalelo(arestas, numVertices, origemBF, distanciaParalela, predecessorParalelo, ForkJoinPool.commonPool());
+        System.out.println("Paralelo: custo de " + origemBF + " a " + destinoBF + " = " + distanciaParalela[destinoBF]);
+
+        // Com a aresta 15 -> 1 de peso -25 o caminho de 1 a 15 (custo 20) fecha um ciclo negativo
+        adicionarAresta(arestas, 15, 1, -25);
+        int[] ciclo = bellmanFordParalelo(arestas, numVertices, origemBF, distanciaParalela, predecessorParalelo, ForkJoinPool.commonPool());
+        System.out.println("Paralelo com 15 -> 1 (-25): ciclo negativo " + Arrays.toString(ciclo));
     }
 }
@@ -0,0 +1,149 @@
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache LRU de árvores de menores caminhos completas (distâncias e predecessores) de um grafo, por vértice raiz.
+ * Cada árvore é guardada junto da versão do grafo em que foi calculada; quando Grafo.getVersao() muda
+ * (adicionarAresta, setMatrizIncidencia, setListaArestas...), todas as árvores são descartadas na próxima consulta.
+ * Em um acerto, distância e caminho são lidos direto dos vetores da árvore, sem nova busca.
+ */
+public class CacheArvores {
+    private final Grafo g;
+    private final long orcamentoBytes;
+
+    // Ordem de acesso: a primeira entrada é a menos usada recentemente
+    private final LinkedHashMap<Integer, DijkstraResult> arvores = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesUsados;
+    private long versao; // Versão do grafo das árvores guardadas
+    private GrafoCSR csr; // Grafo em CSR da mesma versão, reaproveitado entre buscas
+
+    private long acertos;
+    private long falhas;
+    private long remocoes;
+    private long invalidacoes;
+
+    /**
+     * @param g Grafo consultado
+     * @param orcamentoBytes Memória máxima ocupada pelas árvores guardadas
+     */
+    public CacheArvores(Grafo g, long orcamentoBytes) {
+        this.g = g;
+        this.orcamentoBytes = orcamentoBytes;
+        this.versao = g.getVersao();
+    }
+
+    /**
+     * Árvore de menores caminhos a partir de s, calculada com DijkstraHeap na primeira consulta.
+     * O resultado é compartilhado com o cache e não deve ser alterado.
+     * @param s Vértice raiz (1-based)
+     */
+    public synchronized DijkstraResult arvore(int s) {
+        if (versao != g.getVersao()) {
+            invalidacoes += arvores.size();
+            arvores.clear();
+            bytesUsados = 0;
+            csr = null;
+            versao = g.getVersao();
+        }
+
+        DijkstraResult dr = arvores.get(s);
+        if (dr != null) {
+            acertos++;
+            return dr;
+        }
+        falhas++;
+
+        if (csr == null) csr = GrafoCSR.deGrafo(g);
+        dr = DijkstraHeap.execute(csr, s, 0);
+        long tamanho = tamanhoBytes(dr);
+        if (tamanho <= orcamentoBytes) {
+            arvores.put(s, dr);
+            bytesUsados += tamanho;
+            liberarAte(orcamentoBytes);
+        }
+        return dr;
+    }
+
+    // Distância de s até t (1-based), ou Integer.MAX_VALUE se t não for alcançável
+    public int distancia(int s, int t) {
+        return arvore(s).distance[t-1];
+    }
+
+    /**
+     * Copia o caminho de s até t para out, no formato de DijkstraResult.path
+     * @return Número de vértices escritos em out, ou 0 se t não for alcançável
+     */
+    public int caminho(int s, int t, int[] out) {
+        return arvore(s).path(t, out);
+    }
+
+    // Remove as árvores menos usadas até a memória ocupada caber no limite
+    private void liberarAte(long limite) {
+        Iterator<Map.Entry<Integer, DijkstraResult>> it = arvores.entrySet().iterator();
+        while (bytesUsados > limite && it.hasNext()) {
+            bytesUsados -= tamanhoBytes(it.next().getValue());
+            it.remove();
+            remocoes++;
+        }
+    }
+
+    // Estimativa da memória de uma árvore: distâncias, predecessores e o bitset de visitados
+    private static long tamanhoBytes(DijkstraResult dr) {
+        long n = dr.getVertices();
+        return 4 * n + 4 * n + n / 8 + 64;
+    }
+
+    public synchronized long getAcertos() {
+        return acertos;
+    }
+
+    public synchronized long getFalhas() {
+        return falhas;
+    }
+
+    public synchronized long getRemocoes() {
+        return remocoes;
+    }
+
+    public synchronized long getInvalidacoes() {
+        return invalidacoes;
+    }
+
+    public synchronized long getBytesUsados() {
+        return bytesUsados;
+    }
+
+    public synchronized int getQuantidade() {
+        return arvores.size();
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing shortest-path tree cache ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+            // Espaço para duas árvores deste grafo
+            CacheArvores cache = new CacheArvores(g, 2 * (8L * g.getVertices() + g.getVertices() / 8 + 64));
+
+            int[] caminho = new int[g.getVertices()];
+            int[] origens = {1, 2, 1, 3, 1, 2};
+            for(int s : origens){
+                int tamanho = cache.caminho(s, 15, caminho);
+                System.out.printf("%d -> 15: cost %d, %d vertices in path%n", s, cache.distancia(s, 15), tamanho);
+            }
+
+            // Alterar o grafo invalida as árvores guardadas
+            g.adicionarAresta(0, 14, 1);
+            System.out.printf("1 -> 15 after adding edge 1 -> 15: cost %d%n", cache.distancia(1, 15));
+
+            System.out.printf("Hits: %d, misses: %d, evictions: %d, invalidations: %d%n",
+                    cache.getAcertos(), cache.getFalhas(), cache.getRemocoes(), cache.getInvalidacoes());
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 import Miscs.Aresta;
 import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
 import Miscs.Pair;
 
 import java.util.ArrayList;
@@ -15,40 +17,25 @@ public class ChuLiuEdmonds {
      * @param target Vértice que terá os vértices de entrada removidos
      */
     static void RemoveIncomingEdges(Grafo g, int target){
-        int[][] new_matriz = g.getMatrizIncidencia();
-        for (int i = 0; i < g.getVertices(); i++){
-            new_matriz[i][target] = -1;
-        }
-        g.setMatrizIncidencia(new_matriz);
+        g.removerArestasDeEntrada(target);
     }
 
     /**
-     * Retorna uma matriz de adjacência invertida onde g[destino][origem] = G[origem][destino]
+     * Retorna o grafo invertido em formato CSR, onde cada aresta (origem, destino) vira (destino, origem)
      * @param g Grafo original
      */
-    static int[][] reverse_graph(Grafo g){
-        int[][] matriz = g.getMatrizIncidencia();
-        int[][] reverse_matrix = new int[g.getVertices()][];
-        for (int src = 0; src < g.getVertices(); src++){
-            for (int dst = 0; dst < g.getVertices(); dst++){
-                if(reverse_matrix[dst] == null){
-                    reverse_matrix[dst] = new int[g.getVertices()];
-                }
-                reverse_matrix[dst][src] = matriz[src][dst];
-            }
-        }
-
-        return reverse_matrix;
+    static GrafoCSR reverse_graph(Grafo g){
+        return GrafoCSR.deGrafo(g).transposto();
     }
 
     /**
      * Encontra a aresta de entrada de menor custo para todos os vértices do grafo, com exceção da raiz
      * @param g Grafo em que o algoritmo vai executar
      * @param raiz Raiz do grafo
-     * @param rg Matriz reversa de adjacência
+     * @param rg Grafo reverso em formato CSR, com as arestas de entrada de cada vértice
      * @return Retorna um HashMap que mapeia um par contendo o vértice de origem e o peso para um vértice de destino
      */
-    static HashMap<Integer,ArrayList<Pair<Integer,Integer>>> build_min(Grafo g, int raiz, int[][] rg){
+    static HashMap<Integer,ArrayList<Pair<Integer,Integer>>> build_min(Grafo g, int raiz, GrafoEsparso rg){
         HashMap<Integer,ArrayList<Pair<Integer,Integer>>> mg = new HashMap<>();
 
         for(int dst = 0; dst < g.getVertices(); dst++){
@@ -56,11 +43,11 @@ public class ChuLiuEdmonds {
 
             int min_ind = Integer.MAX_VALUE;
             int min_value = Integer.MAX_VALUE;
-            for(int src = 0; src < g.getVertices(); src++){
+            for(int e = rg.inicio(dst); e < rg.fim(dst); e++){
                 // Verifica qual aresta incidente em dst que possui o menor custo
-                if(rg[dst][src] > -1 && rg[dst][src] <= min_value){
-                    min_ind = src;
-                    min_value = rg[dst][src];
+                if(rg.peso(e) > -1 && rg.peso(e) <= min_value){
+                    min_ind = rg.destino(e);
+                    min_value = rg.peso(e);
                 }
             }
             Pair<Integer, Integer> inner = new Pair<>(min_ind, min_value);
@@ -126,7 +113,7 @@ public class ChuLiuEdmonds {
         RemoveIncomingEdges(modified_graph, raiz);
 
         // Inverte o grafo
-        int[][] rg = reverse_graph(g);
+        GrafoCSR rg = reverse_graph(g);
 
         // Mapeia as arestas de entrada de menor custo para cada vértice, exceto a raiz
         HashMap<Integer,ArrayList<Pair<Integer,Integer>>> mg = build_min(g, raiz, rg);
@@ -214,8 +201,7 @@ public class ChuLiuEdmonds {
     static Grafo GenerateTree(HashMap<Integer,ArrayList<Pair<Integer,Integer>>> mg){
         Grafo grafo = new Grafo(mg.size()+1);
         for(Integer edge: mg.keySet()){
-            int[][] matrix = grafo.getMatrizIncidencia();
-            matrix[mg.get(edge).getFirst().key()][edge] = mg.get(edge).getFirst().value();
+            grafo.adicionarAresta(mg.get(edge).getFirst().key(), edge, mg.get(edge).getFirst().value());
         }
 
         return grafo;
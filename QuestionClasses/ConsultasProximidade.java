@@ -0,0 +1,133 @@
+import Miscs.EspacoBusca;
+import Miscs.FilaPrioridade;
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.util.Arrays;
+
+/**
+ * Consultas de vizinhança a partir de uma raiz: os k vértices mais próximos e todos os vértices até uma distância R.
+ * A busca é um Dijkstra que para assim que a resposta está completa, em vez de visitar o grafo inteiro.
+ * A área de trabalho pertence à instância e é reiniciada por geração, então o custo de cada consulta é proporcional
+ * aos vértices tocados; uma instância não deve ser consultada por várias threads ao mesmo tempo.
+ */
+public class ConsultasProximidade {
+    private final GrafoEsparso g;
+    private final EspacoBusca esp;
+
+    public ConsultasProximidade(GrafoEsparso g) {
+        this.g = g;
+        this.esp = new EspacoBusca(g.getVertices(), FilaPrioridade.para(g));
+    }
+
+    public ConsultasProximidade(Grafo g) {
+        this(GrafoCSR.deGrafo(g));
+    }
+
+    /**
+     * Vértices encontrados em ordem crescente de distância (0-based), sem incluir a raiz.
+     * predecessor[i] é o vértice anterior a vertice[i] no menor caminho; ele é a raiz ou aparece antes no resultado.
+     */
+    public static final class Vizinhanca {
+        public final int[] vertice;
+        public final int[] distancia;
+        public final int[] predecessor;
+        public final int quantidade;
+
+        Vizinhanca(int[] vertice, int[] distancia, int[] predecessor, int quantidade) {
+            this.vertice = vertice;
+            this.distancia = distancia;
+            this.predecessor = predecessor;
+            this.quantidade = quantidade;
+        }
+    }
+
+    /**
+     * Os k vértices mais próximos de s; a busca termina quando o k-ésimo é visitado
+     * @param s Vértice raiz (1-based)
+     * @param k Quantidade de vizinhos; menos são devolvidos se menos forem alcançáveis
+     * @throws IllegalArgumentException Se k for negativo
+     */
+    public Vizinhanca kMaisProximos(int s, int k) {
+        if (k < 0) throw new IllegalArgumentException("Quantidade de vizinhos negativa: " + k);
+        if (k == 0) return new Vizinhanca(new int[0], new int[0], new int[0], 0);
+        return buscar(s-1, k, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Todos os vértices a distância no máximo r de s; a busca termina quando a fronteira passa de r
+     * @param s Vértice raiz (1-based)
+     * @param r Raio da consulta
+     * @throws IllegalArgumentException Se r for negativo
+     */
+    public Vizinhanca dentroDoRaio(int s, int r) {
+        if (r < 0) throw new IllegalArgumentException("Raio negativo: " + r);
+        return buscar(s-1, Integer.MAX_VALUE, r);
+    }
+
+    private Vizinhanca buscar(int s, int limite, int raio) {
+        int capacidade = Math.min(limite, 16);
+        int[] vertice = new int[capacidade];
+        int[] distancia = new int[capacidade];
+        int[] predecessor = new int[capacidade];
+        int quantidade = 0;
+
+        esp.reiniciar();
+        FilaPrioridade heap = esp.getHeap();
+        esp.definir(s, 0, -1);
+        heap.inserirOuDiminuir(s, 0);
+        while (limite > 0 && !heap.vazio()) {
+            int x = heap.removerMinimo();
+            int dx = esp.distancia(x);
+
+            if (x != s) {
+                if (quantidade == vertice.length) {
+                    int nova = (int) Math.min((long) limite, 2L * quantidade);
+                    vertice = Arrays.copyOf(vertice, nova);
+                    distancia = Arrays.copyOf(distancia, nova);
+                    predecessor = Arrays.copyOf(predecessor, nova);
+                }
+                vertice[quantidade] = x;
+                distancia[quantidade] = dx;
+                predecessor[quantidade] = esp.predecessor(x);
+                quantidade++;
+                if (quantidade == limite) break;
+            }
+
+            for (int e = g.inicio(x); e < g.fim(x); e++) {
+                int y = g.destino(e);
+                int nova = dx + g.peso(e);
+                // Vértices além do raio nem entram na fila, então ela se esvazia quando a fronteira passa de r
+                if (nova <= raio && nova < esp.distancia(y)) {
+                    esp.definir(y, nova, x);
+                    heap.inserirOuDiminuir(y, nova);
+                }
+            }
+        }
+        return new Vizinhanca(vertice, distancia, predecessor, quantidade);
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing nearest-vertex queries ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+            ConsultasProximidade consultas = new ConsultasProximidade(g);
+
+            Vizinhanca k = consultas.kMaisProximos(1, 5);
+            System.out.print("5 nearest to 1      :");
+            for(int i = 0; i < k.quantidade; i++){
+                System.out.printf(" %d (%d)", k.vertice[i] + 1, k.distancia[i]);
+            }
+
+            Vizinhanca r = consultas.dentroDoRaio(1, 10);
+            System.out.print("\nWithin 10 of 1      :");
+            for(int i = 0; i < r.quantidade; i++){
+                System.out.printf(" %d (%d)", r.vertice[i] + 1, r.distancia[i]);
+            }
+            System.out.println("\n\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,478 @@
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+import Miscs.HeapIndexado;
+
+import java.util.Arrays;
+
+/**
+ * Contraction Hierarchies para consultas repetidas de menor caminho em um grafo estático.
+ *
+ * Pré-processamento: os vértices são contraídos em ordem de prioridade (diferença de arestas, vizinhos já contraídos e profundidade,
+ * com atualização preguiçosa). Ao contrair v, cada par u -> v -> x ganha um atalho u -> x, a menos que uma busca de
+ * testemunha encontre um caminho tão curto quanto que não passe por v.
+ * Consulta: duas buscas de Dijkstra que só sobem na hierarquia (de s no grafo "para cima" e de t no grafo "para baixo"
+ * invertido) e se encontram no vértice de maior nível do caminho. Os atalhos são desempacotados para recuperar o caminho completo.
+ *
+ * Os vetores de trabalho da consulta pertencem à instância: uma instância não deve ser consultada por várias threads ao mesmo tempo.
+ */
+public class ContractionHierarchies {
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int LIMITE_TESTEMUNHA = 1000; // Máximo de vértices visitados por busca de testemunha
+    private static final int LIMITE_SIMULACAO = 64; // Limite menor ao só estimar a prioridade de um vértice
+
+    private final int n;
+    private final int[] nivel; // Posição de cada vértice na ordem de contração
+
+    // Todas as arestas da hierarquia (originais e atalhos); filho1/filho2 = -1 em arestas originais
+    private final int[] arestaOrigem;
+    private final int[] arestaDestino;
+    private final int[] arestaPeso;
+    private final int[] filho1;
+    private final int[] filho2;
+
+    // Grafo "para cima": arestas u -> x com nivel[u] < nivel[x], guardadas em u
+    private final int[] cimaOffsets;
+    private final int[] cimaArestas;
+    // Grafo "para baixo" invertido: arestas u -> x com nivel[u] > nivel[x], guardadas em x
+    private final int[] baixoOffsets;
+    private final int[] baixoArestas;
+
+    // Área de trabalho da consulta, limpa apenas nos vértices tocados
+    private final int[] distF;
+    private final int[] distB;
+    private final int[] predF; // Aresta usada para chegar ao vértice na busca direta
+    private final int[] predB; // Aresta usada para chegar ao vértice na busca reversa
+    private final HeapIndexado heapF;
+    private final HeapIndexado heapB;
+    private final int[] tocados;
+    private int qtdTocados;
+
+    private ContractionHierarchies(int n, int[] nivel, int[] arestaOrigem, int[] arestaDestino, int[] arestaPeso,
+                                   int[] filho1, int[] filho2) {
+        this.n = n;
+        this.nivel = nivel;
+        this.arestaOrigem = arestaOrigem;
+        this.arestaDestino = arestaDestino;
+        this.arestaPeso = arestaPeso;
+        this.filho1 = filho1;
+        this.filho2 = filho2;
+
+        // Separa as arestas nos grafos para cima e para baixo, em formato CSR
+        int m = arestaOrigem.length;
+        cimaOffsets = new int[n + 1];
+        baixoOffsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            int u = arestaOrigem[e], x = arestaDestino[e];
+            if (u == x) continue;
+            if (nivel[u] < nivel[x]) cimaOffsets[u + 1]++;
+            else baixoOffsets[x + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            cimaOffsets[v + 1] += cimaOffsets[v];
+            baixoOffsets[v + 1] += baixoOffsets[v];
+        }
+        cimaArestas = new int[cimaOffsets[n]];
+        baixoArestas = new int[baixoOffsets[n]];
+        int[] proxCima = Arrays.copyOf(cimaOffsets, n);
+        int[] proxBaixo = Arrays.copyOf(baixoOffsets, n);
+        for (int e = 0; e < m; e++) {
+            int u = arestaOrigem[e], x = arestaDestino[e];
+            if (u == x) continue;
+            if (nivel[u] < nivel[x]) cimaArestas[proxCima[u]++] = e;
+            else baixoArestas[proxBaixo[x]++] = e;
+        }
+
+        distF = new int[n];
+        distB = new int[n];
+        Arrays.fill(distF, INF);
+        Arrays.fill(distB, INF);
+        predF = new int[n];
+        predB = new int[n];
+        heapF = new HeapIndexado(n);
+        heapB = new HeapIndexado(n);
+        tocados = new int[n];
+    }
+
+    public int getVertices() {
+        return n;
+    }
+
+    public int getNumArestas() {
+        return arestaOrigem.length;
+    }
+
+    /**
+     * Constrói a hierarquia contraindo todos os vértices do grafo
+     * @param g Grafo em formato CSR com pesos não negativos
+     * @return A hierarquia pronta para consultas
+     */
+    static ContractionHierarchies preprocessar(GrafoEsparso g) {
+        return new Contracao(g).executar();
+    }
+
+    /**
+     * Distância de s até target (1-based), sem montar o caminho
+     * @return A distância, ou Integer.MAX_VALUE se target não for alcançável
+     */
+    int distancia(int s, int target) {
+        int meet = buscar(s - 1, target - 1);
+        return meet == -1 ? INF : distF[meet] + distB[meet];
+    }
+
+    /**
+     * Consulta s -> target e desempacota os atalhos para montar o caminho completo
+     * @param s Vértice raiz (1-based)
+     * @param target Vértice alvo (1-based)
+     * @return Uma classe no formato de Dijkstra.execute com path e pathCost; distance e predecessor
+     *         são preenchidos apenas para os vértices do caminho
+     */
+    DijkstraResult consultar(int s, int target) {
+        DijkstraResult dr = new DijkstraResult(n, s);
+        Arrays.fill(dr.distance, INF);
+        if (target - 1 < 0 || target - 1 >= n) {
+            dr.pathString = "Path to value not found";
+            return dr;
+        }
+
+        int meet = buscar(s - 1, target - 1);
+        if (meet == -1) {
+            dr.pathString = "Path to value not found";
+            return dr;
+        }
+
+        // Arestas da hierarquia no caminho, de s até o encontro e depois do encontro até o alvo
+        int[] arestasCaminho = new int[16];
+        int qtd = 0;
+        for (int v = meet; v != s - 1; v = arestaOrigem[predF[v]]) {
+            if (qtd == arestasCaminho.length) arestasCaminho = Arrays.copyOf(arestasCaminho, 2 * qtd);
+            arestasCaminho[qtd++] = predF[v];
+        }
+        // A metade direta foi coletada do encontro para trás: inverte
+        for (int i = 0, j = qtd - 1; i < j; i++, j--) {
+            int tmp = arestasCaminho[i];
+            arestasCaminho[i] = arestasCaminho[j];
+            arestasCaminho[j] = tmp;
+        }
+        for (int v = meet; v != target - 1; v = arestaDestino[predB[v]]) {
+            if (qtd == arestasCaminho.length) arestasCaminho = Arrays.copyOf(arestasCaminho, 2 * qtd);
+            arestasCaminho[qtd++] = predB[v];
+        }
+
+        // Desempacota cada atalho nas arestas originais, com uma pilha para não depender de recursão
+        int[] path = new int[qtd + 1];
+        int tamanho = 0;
+        path[tamanho++] = s - 1;
+        dr.distance[s - 1] = 0;
+        int[] pilha = new int[16];
+        int custo = 0;
+        for (int i = 0; i < qtd; i++) {
+            int topo = 0;
+            pilha[topo++] = arestasCaminho[i];
+            while (topo > 0) {
+                int e = pilha[--topo];
+                if (filho1[e] == -1) {
+                    int u = arestaOrigem[e], x = arestaDestino[e];
+                    custo += arestaPeso[e];
+                    dr.predecessor[x] = u;
+                    dr.distance[x] = custo;
+                    dr.visited.set(x);
+                    if (tamanho == path.length) path = Arrays.copyOf(path, 2 * tamanho);
+                    path[tamanho++] = x;
+                } else {
+                    if (topo + 2 > pilha.length) pilha = Arrays.copyOf(pilha, 2 * pilha.length);
+                    pilha[topo++] = filho2[e];
+                    pilha[topo++] = filho1[e];
+                }
+            }
+        }
+        dr.visited.set(s - 1);
+
+        dr.setPath(path, tamanho, distF[meet] + distB[meet]);
+        return dr;
+    }
+
+    /**
+     * Busca bidirecional subindo na hierarquia
+     * @return O vértice de encontro do menor caminho, ou -1 se não houver caminho
+     */
+    private int buscar(int s, int t) {
+        limpar();
+        if (s < 0 || s >= n || t < 0 || t >= n) return -1;
+
+        tocar(s);
+        distF[s] = 0;
+        heapF.inserirOuDiminuir(s, 0);
+        tocar(t);
+        distB[t] = 0;
+        heapB.inserirOuDiminuir(t, 0);
+
+        long mu = INF;
+        int meet = -1;
+        while (!heapF.vazio() || !heapB.vazio()) {
+            boolean direta = !heapF.vazio() && (heapB.vazio() || heapF.chave(heapF.minimo()) <= heapB.chave(heapB.minimo()));
+            HeapIndexado heap = direta ? heapF : heapB;
+            int[] dist = direta ? distF : distB;
+            int[] outra = direta ? distB : distF;
+
+            // Uma direção termina quando seu mínimo já não melhora o melhor caminho
+            if (heap.chave(heap.minimo()) >= mu) {
+                heap.limpar();
+                continue;
+            }
+
+            int x = heap.removerMinimo();
+            if (outra[x] != INF && (long) dist[x] + outra[x] < mu) {
+                mu = (long) dist[x] + outra[x];
+                meet = x;
+            }
+
+            int[] offsets = direta ? cimaOffsets : baixoOffsets;
+            int[] arestas = direta ? cimaArestas : baixoArestas;
+            int[] pred = direta ? predF : predB;
+            for (int i = offsets[x]; i < offsets[x + 1]; i++) {
+                int e = arestas[i];
+                int y = direta ? arestaDestino[e] : arestaOrigem[e];
+                int nova = dist[x] + arestaPeso[e];
+                if (nova < dist[y]) {
+                    tocar(y);
+                    dist[y] = nova;
+                    pred[y] = e;
+                    heap.inserirOuDiminuir(y, nova);
+                }
+            }
+        }
+        return meet;
+    }
+
+    private void tocar(int v) {
+        if (distF[v] == INF && distB[v] == INF) {
+            tocados[qtdTocados++] = v;
+        }
+    }
+
+    // Restaura as distâncias apenas dos vértices tocados pela consulta anterior
+    private void limpar() {
+        for (int i = 0; i < qtdTocados; i++) {
+            distF[tocados[i]] = INF;
+            distB[tocados[i]] = INF;
+        }
+        qtdTocados = 0;
+        heapF.limpar();
+        heapB.limpar();
+    }
+
+    /**
+     * Estado dinâmico usado apenas durante a contração
+     */
+    private static final class Contracao {
+        private final int n;
+        private int m;
+        private int[] origem = new int[16];
+        private int[] destino = new int[16];
+        private int[] peso = new int[16];
+        private int[] f1 = new int[16];
+        private int[] f2 = new int[16];
+
+        private final int[][] saida; // Ids das arestas que saem de cada vértice
+        private final int[] grauSaida;
+        private final int[][] entrada; // Ids das arestas que chegam em cada vértice
+        private final int[] grauEntrada;
+
+        private final boolean[] contraido;
+        private final int[] vizinhosContraidos;
+        private final int[] profundidade; // Limite inferior do nível de v na hierarquia de busca
+        private final int[] nivel;
+
+        // Área de trabalho da busca de testemunha
+        private final int[] distTestemunha;
+        private final int[] tocadosTestemunha;
+        private int qtdTocadosTestemunha;
+        private final HeapIndexado heap;
+
+        Contracao(GrafoEsparso g) {
+            n = g.getVertices();
+            saida = new int[n][];
+            entrada = new int[n][];
+            grauSaida = new int[n];
+            grauEntrada = new int[n];
+            for (int v = 0; v < n; v++) {
+                saida[v] = new int[Math.max(2, g.grau(v))];
+                entrada[v] = new int[2];
+            }
+            for (int u = 0; u < n; u++) {
+                for (int e = g.inicio(u); e < g.fim(u); e++) {
+                    if (g.destino(e) != u) adicionarAresta(u, g.destino(e), g.peso(e), -1, -1);
+                }
+            }
+
+            contraido = new boolean[n];
+            vizinhosContraidos = new int[n];
+            profundidade = new int[n];
+            nivel = new int[n];
+            distTestemunha = new int[n];
+            Arrays.fill(distTestemunha, INF);
+            tocadosTestemunha = new int[n];
+            heap = new HeapIndexado(n);
+        }
+
+        ContractionHierarchies executar() {
+            HeapIndexado fila = new HeapIndexado(n);
+            for (int v = 0; v < n; v++) {
+                fila.inserirOuDiminuir(v, prioridade(v));
+            }
+
+            int ordem = 0;
+            while (!fila.vazio()) {
+                int v = fila.removerMinimo();
+
+                // Atualização preguiçosa: se a prioridade piorou, v volta para a fila
+                int p = prioridade(v);
+                if (!fila.vazio() && p > fila.chave(fila.minimo())) {
+                    fila.inserirOuDiminuir(v, p);
+                    continue;
+                }
+
+                contrair(v, true);
+                contraido[v] = true;
+                nivel[v] = ordem++;
+                for (int i = 0; i < grauSaida[v]; i++) marcarVizinho(v, destino[saida[v][i]]);
+                for (int i = 0; i < grauEntrada[v]; i++) marcarVizinho(v, origem[entrada[v][i]]);
+            }
+
+            return new ContractionHierarchies(n, nivel, Arrays.copyOf(origem, m), Arrays.copyOf(destino, m),
+                    Arrays.copyOf(peso, m), Arrays.copyOf(f1, m), Arrays.copyOf(f2, m));
+        }
+
+        // Vizinhos de um vértice recém-contraído ficam mais caros, o que espalha a contração pelo grafo
+        private void marcarVizinho(int v, int w) {
+            vizinhosContraidos[w]++;
+            profundidade[w] = Math.max(profundidade[w], profundidade[v] + 1);
+        }
+
+        // Diferença de arestas (atalhos criados - arestas removidas), vizinhos já contraídos e profundidade na hierarquia
+        private int prioridade(int v) {
+            int removidas = 0;
+            for (int i = 0; i < grauSaida[v]; i++) if (!contraido[destino[saida[v][i]]]) removidas++;
+            for (int i = 0; i < grauEntrada[v]; i++) if (!contraido[origem[entrada[v][i]]]) removidas++;
+            return 2 * (contrair(v, false) - removidas) + vizinhosContraidos[v] + profundidade[v];
+        }
+
+        /**
+         * Simula (ou executa) a contração de v
+         * @param adicionar Se true, os atalhos necessários são inseridos no grafo
+         * @return O número de atalhos necessários
+         */
+        private int contrair(int v, boolean adicionar) {
+            int atalhos = 0;
+            for (int i = 0; i < grauEntrada[v]; i++) {
+                int a = entrada[v][i];
+                int u = origem[a];
+                if (contraido[u]) continue;
+
+                // Maior custo de atalho saindo de u, que limita a busca de testemunha
+                long limite = -1;
+                for (int j = 0; j < grauSaida[v]; j++) {
+                    int x = destino[saida[v][j]];
+                    if (contraido[x] || x == u) continue;
+                    limite = Math.max(limite, (long) peso[a] + peso[saida[v][j]]);
+                }
+                if (limite < 0) continue;
+
+                buscarTestemunha(u, v, (int) Math.min(limite, INF - 1), adicionar ? LIMITE_TESTEMUNHA : LIMITE_SIMULACAO);
+                for (int j = 0; j < grauSaida[v]; j++) {
+                    int b = saida[v][j];
+                    int x = destino[b];
+                    if (contraido[x] || x == u) continue;
+                    int custo = peso[a] + peso[b];
+                    if (distTestemunha[x] > custo) {
+                        atalhos++;
+                        if (adicionar) adicionarAtalho(u, x, custo, a, b);
+                    }
+                }
+            }
+            return atalhos;
+        }
+
+        // Dijkstra limitado a partir de u que ignora v e os vértices já contraídos
+        // Parar cedo só pode gerar atalhos a mais, nunca a menos, então a hierarquia continua correta
+        private void buscarTestemunha(int u, int v, int limite, int maxVisitados) {
+            for (int i = 0; i < qtdTocadosTestemunha; i++) distTestemunha[tocadosTestemunha[i]] = INF;
+            qtdTocadosTestemunha = 0;
+            heap.limpar();
+
+            distTestemunha[u] = 0;
+            tocadosTestemunha[qtdTocadosTestemunha++] = u;
+            heap.inserirOuDiminuir(u, 0);
+            int visitados = 0;
+            while (!heap.vazio() && visitados < maxVisitados) {
+                int x = heap.removerMinimo();
+                if (distTestemunha[x] > limite) break;
+                visitados++;
+                for (int i = 0; i < grauSaida[x]; i++) {
+                    int e = saida[x][i];
+                    int y = destino[e];
+                    if (y == v || contraido[y]) continue;
+                    int nova = distTestemunha[x] + peso[e];
+                    if (nova < distTestemunha[y]) {
+                        if (distTestemunha[y] == INF) tocadosTestemunha[qtdTocadosTestemunha++] = y;
+                        distTestemunha[y] = nova;
+                        heap.inserirOuDiminuir(y, nova);
+                    }
+                }
+            }
+        }
+
+        // Insere o atalho u -> x ou melhora uma aresta u -> x já existente
+        private void adicionarAtalho(int u, int x, int custo, int a, int b) {
+            for (int i = 0; i < grauSaida[u]; i++) {
+                int e = saida[u][i];
+                if (destino[e] == x) {
+                    if (peso[e] > custo) {
+                        peso[e] = custo;
+                        f1[e] = a;
+                        f2[e] = b;
+                    }
+                    return;
+                }
+            }
+            adicionarAresta(u, x, custo, a, b);
+        }
+
+        private void adicionarAresta(int u, int x, int w, int a, int b) {
+            if (m == origem.length) {
+                int capacidade = 2 * m;
+                origem = Arrays.copyOf(origem, capacidade);
+                destino = Arrays.copyOf(destino, capacidade);
+                peso = Arrays.copyOf(peso, capacidade);
+                f1 = Arrays.copyOf(f1, capacidade);
+                f2 = Arrays.copyOf(f2, capacidade);
+            }
+            origem[m] = u;
+            destino[m] = x;
+            peso[m] = w;
+            f1[m] = a;
+            f2[m] = b;
+
+            if (grauSaida[u] == saida[u].length) saida[u] = Arrays.copyOf(saida[u], 2 * grauSaida[u]);
+            saida[u][grauSaida[u]++] = m;
+            if (grauEntrada[x] == entrada[x].length) entrada[x] = Arrays.copyOf(entrada[x], 2 * grauEntrada[x]);
+            entrada[x][grauEntrada[x]++] = m;
+            m++;
+        }
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing Contraction Hierarchies ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+            ContractionHierarchies ch = ContractionHierarchies.preprocessar(GrafoCSR.deGrafo(g));
+
+            DijkstraResult shortest_path = ch.consultar(1, 15);
+            shortest_path.PrintResults();
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
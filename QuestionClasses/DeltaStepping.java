@@ -0,0 +1,253 @@
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Menores caminhos a partir de uma raiz por delta-stepping, com relaxamentos em paralelo.
+ * Os vértices são agrupados em baldes de largura delta pela distância provisória. As arestas leves (peso <= delta)
+ * de um balde são relaxadas em paralelo até o balde estabilizar, e só então as pesadas são relaxadas, uma vez por vértice.
+ * Distância e predecessor de cada vértice ficam juntos em um long, atualizado com compareAndSet,
+ * para que o predecessor sempre corresponda à menor distância escrita.
+ */
+public class DeltaStepping {
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int VERTICES_POR_TAREFA = 256;
+
+    private final GrafoEsparso g;
+    private final int delta;
+    // Arestas de cada vértice reordenadas com as leves primeiro: ids em [g.inicio(u), fimLeves[u]) são leves
+    private final int[] arestas;
+    private final int[] fimLeves;
+
+    /**
+     * Prepara o grafo para consultas com o delta informado
+     * @param g Grafo em formato CSR, com pesos não negativos
+     * @param delta Largura de cada balde; arestas com peso até delta são leves
+     */
+    public DeltaStepping(GrafoEsparso g, int delta) {
+        this.g = g;
+        this.delta = Math.max(1, delta);
+        int n = g.getVertices();
+        arestas = new int[g.getNumArestas()];
+        fimLeves = new int[n];
+        for (int u = 0; u < n; u++) {
+            int leve = g.inicio(u), pesada = g.fim(u);
+            for (int e = g.inicio(u); e < g.fim(u); e++) {
+                if (g.peso(e) <= this.delta) arestas[leve++] = e;
+                else arestas[--pesada] = e;
+            }
+            fimLeves[u] = leve;
+        }
+    }
+
+    /**
+     * Delta padrão: maior peso dividido pelo grau médio, que mantém poucas reinserções em grafos com pesos aleatórios
+     */
+    public static int deltaPadrao(GrafoEsparso g) {
+        double grauMedio = g.getVertices() == 0 ? 1 : Math.max(1.0, (double) g.getNumArestas() / g.getVertices());
+        return Math.max(1, (int) (g.pesoMaximo() / grauMedio));
+    }
+
+    static DijkstraResult execute(Grafo g, int s, int target){
+        GrafoCSR csr = GrafoCSR.deGrafo(g);
+        return new DeltaStepping(csr, deltaPadrao(csr)).execute(s, target, ForkJoinPool.commonPool());
+    }
+
+    static DijkstraResult execute(GrafoEsparso g, int s, int target){
+        return new DeltaStepping(g, deltaPadrao(g)).execute(s, target, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcula as distâncias de s para todos os vértices
+     * @param s Vértice raiz (1-based)
+     * @param target Vértice alvo (1-based), ou 0 para não montar o caminho
+     * @param pool Pool onde os relaxamentos serão executados
+     * @return Uma classe com os dados obtidos do algoritmo, no mesmo formato de Dijkstra.execute
+     */
+    DijkstraResult execute(int s, int target, ForkJoinPool pool){
+        int n = g.getVertices();
+        AtomicLongArray estado = new AtomicLongArray(n); // (distância << 32) | predecessor
+        for(int v = 0; v < n; v++){
+            estado.set(v, empacotar(INF, -1));
+        }
+        estado.set(s-1, empacotar(0, -1));
+
+        // Baldes circulares: toda distância pendente fica a menos de pesoMaximo/delta + 2 baldes do atual
+        int numBaldes = g.pesoMaximo() / delta + 2;
+        ListaInt[] baldes = new ListaInt[numBaldes];
+        for(int b = 0; b < numBaldes; b++){
+            baldes[b] = new ListaInt();
+        }
+        baldes[0].adicionar(s-1);
+        int pendentes = 1;
+
+        int[] marcaFronteira = new int[n]; // Evita repetir um vértice na mesma rodada
+        int[] marcaBalde = new int[n]; // Evita relaxar duas vezes as arestas pesadas de um vértice no mesmo balde
+        Arrays.fill(marcaBalde, -1);
+        int rodada = 0;
+        ListaInt fronteira = new ListaInt();
+        ListaInt estaveis = new ListaInt();
+        ConcurrentLinkedQueue<ListaInt> melhorados = new ConcurrentLinkedQueue<>();
+
+        for(int i = 0; pendentes > 0; i++){
+            ListaInt balde = baldes[i % numBaldes];
+            estaveis.limpar();
+            while(balde.tamanho > 0){
+                // Fronteira: vértices do balde cuja distância ainda pertence a ele (entradas antigas são descartadas)
+                rodada++;
+                fronteira.limpar();
+                for(int j = 0; j < balde.tamanho; j++){
+                    int v = balde.itens[j];
+                    if(distancia(estado.get(v)) / delta == i && marcaFronteira[v] != rodada){
+                        marcaFronteira[v] = rodada;
+                        fronteira.adicionar(v);
+                        if(marcaBalde[v] != i){
+                            marcaBalde[v] = i;
+                            estaveis.adicionar(v);
+                        }
+                    }
+                }
+                pendentes -= balde.tamanho;
+                balde.limpar();
+
+                relaxar(pool, estado, fronteira, true, melhorados);
+                pendentes += distribuir(estado, melhorados, baldes);
+            }
+
+            relaxar(pool, estado, estaveis, false, melhorados);
+            pendentes += distribuir(estado, melhorados, baldes);
+        }
+
+        DijkstraResult dr = new DijkstraResult(n, s);
+        for(int v = 0; v < n; v++){
+            long x = estado.get(v);
+            dr.distance[v] = distancia(x);
+            dr.predecessor[v] = (int) x;
+            if(dr.distance[v] != INF) dr.visited.set(v);
+        }
+        Dijkstra.buildPath(dr, n, s, target);
+        return dr;
+    }
+
+    private void relaxar(ForkJoinPool pool, AtomicLongArray estado, ListaInt vertices, boolean leves, ConcurrentLinkedQueue<ListaInt> melhorados){
+        if(vertices.tamanho == 0) return;
+        Relaxamento tarefa = new Relaxamento(estado, vertices.itens, 0, vertices.tamanho, leves, melhorados);
+        if(vertices.tamanho <= VERTICES_POR_TAREFA){
+            // Fronteira pequena: não compensa despachar para o pool
+            tarefa.compute();
+        }else{
+            pool.invoke(tarefa);
+        }
+    }
+
+    // Coloca os vértices melhorados no balde da nova distância; retorna quantas entradas foram adicionadas
+    private int distribuir(AtomicLongArray estado, ConcurrentLinkedQueue<ListaInt> melhorados, ListaInt[] baldes){
+        int adicionados = 0;
+        for(ListaInt lista; (lista = melhorados.poll()) != null; ){
+            for(int j = 0; j < lista.tamanho; j++){
+                int v = lista.itens[j];
+                baldes[(distancia(estado.get(v)) / delta) % baldes.length].adicionar(v);
+            }
+            adicionados += lista.tamanho;
+        }
+        return adicionados;
+    }
+
+    private static long empacotar(int distancia, int predecessor){
+        return ((long) distancia << 32) | (predecessor & 0xFFFFFFFFL);
+    }
+
+    private static int distancia(long x){
+        return (int) (x >>> 32);
+    }
+
+    /**
+     * Tarefa fork-join que relaxa as arestas leves ou pesadas de um trecho da fronteira
+     */
+    private final class Relaxamento extends RecursiveAction {
+        private final AtomicLongArray estado;
+        private final int[] vertices;
+        private final int de;
+        private final int ate;
+        private final boolean leves;
+        private final ConcurrentLinkedQueue<ListaInt> melhorados;
+
+        Relaxamento(AtomicLongArray estado, int[] vertices, int de, int ate, boolean leves, ConcurrentLinkedQueue<ListaInt> melhorados) {
+            this.estado = estado;
+            this.vertices = vertices;
+            this.de = de;
+            this.ate = ate;
+            this.leves = leves;
+            this.melhorados = melhorados;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > VERTICES_POR_TAREFA) {
+                int meio = (de + ate) >>> 1;
+                invokeAll(new Relaxamento(estado, vertices, de, meio, leves, melhorados),
+                        new Relaxamento(estado, vertices, meio, ate, leves, melhorados));
+                return;
+            }
+
+            ListaInt local = new ListaInt();
+            for (int i = de; i < ate; i++) {
+                int u = vertices[i];
+                int du = distancia(estado.get(u));
+                int primeira = leves ? g.inicio(u) : fimLeves[u];
+                int ultima = leves ? fimLeves[u] : g.fim(u);
+                for (int k = primeira; k < ultima; k++) {
+                    int e = arestas[k];
+                    int y = g.destino(e);
+                    int nova = du + g.peso(e);
+                    // Mínimo atômico: tenta até escrever ou até outra thread já ter escrito uma distância menor ou igual
+                    long atual = estado.get(y);
+                    while (nova < distancia(atual)) {
+                        if (estado.compareAndSet(y, atual, empacotar(nova, u))) {
+                            local.adicionar(y);
+                            break;
+                        }
+                        atual = estado.get(y);
+                    }
+                }
+            }
+            if (local.tamanho > 0) melhorados.add(local);
+        }
+    }
+
+    /**
+     * Vetor de inteiros que cresce sob demanda
+     */
+    private static final class ListaInt {
+        int[] itens = new int[16];
+        int tamanho;
+
+        void adicionar(int v) {
+            if (tamanho == itens.length) itens = Arrays.copyOf(itens, 2 * tamanho);
+            itens[tamanho++] = v;
+        }
+
+        void limpar() {
+            tamanho = 0;
+        }
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing delta-stepping ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+
+            DijkstraResult shortest_path = DeltaStepping.execute(g, 1, 15);
+            shortest_path.PrintResults();
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
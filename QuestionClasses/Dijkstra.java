@@ -1,9 +1,8 @@
 import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
 import Miscs.Pair;
 
-import java.util.LinkedList;
-import java.util.Stack;
-
 public class Dijkstra {
     /**
      * Executa o algoritmo de menor caminho de dijkstra sobre um grafo g
@@ -34,7 +33,7 @@ public class Dijkstra {
                 dr.predecessor[i] = s-1;
                 dr.distance[i] = w[s-1][i];
             }else{
-                dr.predecessor[i] = null;
+                dr.predecessor[i] = -1;
                 dr.distance[i] = Integer.MAX_VALUE;
             }
 
@@ -46,7 +45,7 @@ public class Dijkstra {
 
         // Cálculo do menor caminho do vértice raiz para todos os outros vértices do grafo
         // Enquanto houver um vértice não visitado, o algoritmo continuará sendo executado
-        while(dr.visited.contains(false)){
+        while(dr.visited.cardinality() < g.getVertices()){
 
             for(int i = 0; i < g.getVertices(); i++){
                 if(!dr.visited.get(i) && min_distance_vertex.value() > dr.distance[i]){
@@ -70,42 +69,92 @@ public class Dijkstra {
             }
         }
 
-        if(target-1 != -1){
-            if (target-1 >= g.getVertices() || (target-1 != s-1 && dr.predecessor[target-1] == null)) {
-                   dr.pathString = "Path to value not found";
-            }else{
-                // Caso exista um vértice alvo, realiza um backtracking dele para o vértice raiz
-                LinkedList<Integer> path = new LinkedList<>();
-                Stack<Integer> reverse_path = new Stack<>();
-
-                int current_vertex = target-1;
-                reverse_path.push(current_vertex);
-                while(current_vertex != s-1){
-                    // Adiciona os predecessores numa pilha
-                    current_vertex = dr.predecessor[current_vertex];
-                    reverse_path.push(current_vertex);
-                }
+        buildPath(dr, g.getVertices(), s, target);
+
+        // Retorna os resultados obtidos do algoritmo de Dijkstra
+        return dr;
+    }
+
+    /**
+     * Executa o algoritmo de menor caminho de dijkstra usando os pesos armazenados junto à lista de adjacência do grafo,
+     * sem precisar da matriz V x V
+     * @param g Grafo em que o algoritmo será executado
+     * @param s Vértice raiz onde o algoritmo começará a ser executado
+     * @param target Vértice alvo em caso de se desejar obter diretamente o menor caminho partindo do vértice s para ele. Para não devolver uma busca, digitar: 0
+     * @return Uma classe com os dados obtidos do algoritmo armazenados nele.
+     */
+    static DijkstraResult execute(Grafo g, int s, int target){
+        return execute(GrafoCSR.deGrafo(g), s, target);
+    }
 
-                while(!reverse_path.isEmpty()){
-                    // Adiciona os predecessores em uma lista, formando assim o menor caminho entre a raiz e o alvo
-                    path.add(reverse_path.pop());
+    /**
+     * Executa o algoritmo de menor caminho de dijkstra sobre um grafo em formato CSR,
+     * percorrendo vizinhos e pesos diretamente dos vetores do grafo
+     * @param g Grafo em formato CSR (em memória ou mapeado de arquivo) em que o algoritmo será executado
+     * @param s Vértice raiz onde o algoritmo começará a ser executado
+     * @param target Vértice alvo em caso de se desejar obter diretamente o menor caminho partindo do vértice s para ele. Para não devolver uma busca, digitar: 0
+     * @return Uma classe com os dados obtidos do algoritmo armazenados nele.
+     */
+    static DijkstraResult execute(GrafoEsparso g, int s, int target){
+        int n = g.getVertices();
+        DijkstraResult dr = new DijkstraResult(n, s);
+
+        for(int i = 0; i < n; i++){
+            dr.distance[i] = Integer.MAX_VALUE;
+        }
+        dr.distance[s-1] = 0;
+
+        for(int iteration = 0; iteration < n; iteration++){
+            // Seleciona o vértice não visitado com menor custo de distância
+            int x = -1;
+            for(int i = 0; i < n; i++){
+                if(!dr.visited.get(i) && dr.distance[i] != Integer.MAX_VALUE && (x == -1 || dr.distance[i] < dr.distance[x])){
+                    x = i;
                 }
+            }
+            // Os vértices restantes não são alcançáveis a partir da raiz
+            if(x == -1) break;
 
-                dr.path = path;
-                dr.pathCost = dr.distance[target-1];
+            dr.visited.set(x);
+
+            for(int e = g.inicio(x); e < g.fim(x); e++){
+                int y = g.destino(e);
+                if(!dr.visited.get(y) && dr.distance[y] > dr.distance[x]+g.peso(e)){
+                    dr.distance[y] = dr.distance[x]+g.peso(e);
+                    dr.predecessor[y] = x;
+                }
             }
         }
 
-        // Retorna os resultados obtidos do algoritmo de Dijkstra
+        buildPath(dr, n, s, target);
         return dr;
     }
 
+    /**
+     * Caso exista um vértice alvo, registra o alvo e o custo do caminho no resultado.
+     * O caminho em si só é montado quando pedido, seguindo os predecessores (DijkstraResult.path)
+     * @param dr Resultado com os predecessores já calculados
+     * @param vertices Número de vértices do grafo
+     * @param s Vértice raiz (1-based)
+     * @param target Vértice alvo (1-based), ou 0 para não montar o caminho
+     */
+    static void buildPath(DijkstraResult dr, int vertices, int s, int target){
+        if(target-1 != -1){
+            if (target-1 >= vertices || (target-1 != s-1 && dr.predecessor[target-1] == -1)) {
+                   dr.pathString = "Path to value not found";
+            }else{
+                dr.target = target;
+                dr.pathCost = dr.distance[target-1];
+            }
+        }
+    }
+
     public static void main(String[] args) {
         try{
             System.out.println(" ------- Executing Dijkstra ------- ");
             Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
 
-            DijkstraResult shortest_path = Dijkstra.execute(g, g.getMatrizIncidencia(), 1, 15);
+            DijkstraResult shortest_path = Dijkstra.execute(g, 1, 15);
             shortest_path.PrintResults();
             System.out.println("\n ------- Finished execution ------- ");
         }catch (Exception e){
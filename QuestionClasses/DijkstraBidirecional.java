@@ -0,0 +1,148 @@
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+import Miscs.HeapIndexado;
+
+public class DijkstraBidirecional {
+    private static final int INF = Integer.MAX_VALUE;
+
+    /**
+     * Executa o Dijkstra bidirecional entre s e target sobre um grafo g.
+     * O grafo reverso é montado a cada chamada; para muitas consultas no mesmo grafo prefira a versão que recebe os dois grafos.
+     * @param g Grafo em que o algoritmo será executado
+     * @param s Vértice raiz (1-based)
+     * @param target Vértice alvo (1-based)
+     * @return Uma classe com o caminho e o custo entre s e target
+     */
+    static DijkstraResult execute(Grafo g, int s, int target){
+        GrafoCSR direto = GrafoCSR.deGrafo(g);
+        return execute(direto, direto.transposto(), s, target);
+    }
+
+    /**
+     * Executa o Dijkstra bidirecional: uma busca parte de s sobre o grafo e outra parte de target sobre o grafo reverso,
+     * expandindo sempre a fronteira menor. A busca termina quando a soma dos mínimos das duas fronteiras
+     * não é menor que o melhor caminho já encontrado (critério de parada padrão).
+     * @param g Grafo em formato CSR
+     * @param reverso Grafo transposto de g (arestas de entrada de cada vértice)
+     * @param s Vértice raiz (1-based)
+     * @param target Vértice alvo (1-based). Se for 0, executa o Dijkstra unidirecional completo
+     * @return Uma classe com os mesmos campos de caminho (path, pathCost) de Dijkstra.execute. distance, predecessor e
+     *         visited refletem apenas a busca direta e valem como estimativas para os vértices que ela não visitou
+     */
+    static DijkstraResult execute(GrafoEsparso g, GrafoEsparso reverso, int s, int target){
+        if(target-1 == -1){
+            return DijkstraHeap.execute(g, s, target);
+        }
+
+        int n = g.getVertices();
+        DijkstraResult dr = new DijkstraResult(n, s);
+        if(target-1 >= n){
+            dr.pathString = "Path to value not found";
+            return dr;
+        }
+
+        // Busca direta usa dr.distance e dr.predecessor; a reversa usa vetores próprios
+        int[] distB = new int[n];
+        int[] succB = new int[n]; // Próximo vértice no caminho até o alvo, segundo a busca reversa
+        boolean[] settledF = new boolean[n];
+        boolean[] settledB = new boolean[n];
+        for(int i = 0; i < n; i++){
+            dr.distance[i] = INF;
+            distB[i] = INF;
+        }
+
+        HeapIndexado heapF = new HeapIndexado(n);
+        HeapIndexado heapB = new HeapIndexado(n);
+        dr.distance[s-1] = 0;
+        distB[target-1] = 0;
+        heapF.inserirOuDiminuir(s-1, 0);
+        heapB.inserirOuDiminuir(target-1, 0);
+
+        int mu = s == target ? 0 : INF; // Custo do melhor caminho encontrado até agora
+        int meet = s == target ? s-1 : -1; // Vértice onde as duas buscas se encontram nesse caminho
+
+        while(!heapF.vazio() && !heapB.vazio()){
+            // Critério de parada: nenhum caminho ainda não visto pode ser menor que mu
+            if(mu != INF && (long) heapF.chave(heapF.minimo()) + heapB.chave(heapB.minimo()) >= mu) break;
+
+            if(heapF.tamanho() <= heapB.tamanho()){
+                int x = heapF.removerMinimo();
+                settledF[x] = true;
+                dr.visited.set(x);
+                for(int e = g.inicio(x); e < g.fim(x); e++){
+                    int y = g.destino(e);
+                    int nova = dr.distance[x] + g.peso(e);
+                    if(!settledF[y] && nova < dr.distance[y]){
+                        dr.distance[y] = nova;
+                        dr.predecessor[y] = x;
+                        heapF.inserirOuDiminuir(y, nova);
+                    }
+                    if(distB[y] != INF && (long) dr.distance[y] + distB[y] < mu){
+                        mu = dr.distance[y] + distB[y];
+                        meet = y;
+                    }
+                }
+            }else{
+                int x = heapB.removerMinimo();
+                // Só settledB: visited, assim como distance e predecessor, reflete apenas a busca direta
+                settledB[x] = true;
+                for(int e = reverso.inicio(x); e < reverso.fim(x); e++){
+                    int y = reverso.destino(e);
+                    int nova = distB[x] + reverso.peso(e);
+                    if(!settledB[y] && nova < distB[y]){
+                        distB[y] = nova;
+                        succB[y] = x;
+                        heapB.inserirOuDiminuir(y, nova);
+                    }
+                    if(dr.distance[y] != INF && (long) dr.distance[y] + distB[y] < mu){
+                        mu = dr.distance[y] + distB[y];
+                        meet = y;
+                    }
+                }
+            }
+        }
+
+        if(meet == -1){
+            dr.pathString = "Path to value not found";
+            return dr;
+        }
+
+        // Conta os vértices das duas metades: da raiz até o encontro e do encontro até o alvo
+        int direta = 1;
+        for(int v = meet; v != s-1; v = dr.predecessor[v]) direta++;
+        int tamanho = direta;
+        for(int v = meet; v != target-1; v = succB[v]) tamanho++;
+
+        // Metade direta: predecessores do encontro até a raiz, preenchidos de trás para frente
+        int[] path = new int[tamanho];
+        int v = meet;
+        for(int i = direta - 1; i >= 0; i--){
+            path[i] = v;
+            v = dr.predecessor[v];
+        }
+        // Metade reversa: sucessores do encontro até o alvo
+        v = meet;
+        for(int i = direta; i < tamanho; i++){
+            v = succB[v];
+            path[i] = v;
+        }
+
+        dr.distance[target-1] = mu;
+        dr.setPath(path, tamanho, mu);
+        return dr;
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing bidirectional Dijkstra ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+
+            DijkstraResult shortest_path = DijkstraBidirecional.execute(g, 1, 15);
+            shortest_path.PrintResults();
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
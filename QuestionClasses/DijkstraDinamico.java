@@ -0,0 +1,267 @@
+import Miscs.Grafo;
+import Miscs.HeapIndexado;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Árvore de menores caminhos a partir de uma raiz fixa, mantida sob inserções e alterações de peso de arestas
+ * (no estilo de Ramalingam e Reps). Cada atualização repara a árvore apenas nos vértices afetados:
+ * <ul>
+ *     <li>Inserção ou diminuição de (u, v): se v melhora, um Dijkstra parte de v e só avança enquanto houver melhora.</li>
+ *     <li>Aumento de (u, v): se a aresta estava na árvore, a subárvore de v perde as distâncias; cada vértice dela
+ *     recebe o melhor candidato entre suas arestas de entrada vindas de fora, e um Dijkstra restrito à subárvore termina o reparo.</li>
+ * </ul>
+ * Arestas paralelas (u, v) são tratadas como uma só, com o menor peso. As alterações também são aplicadas ao Grafo
+ * informado, que deve ser alterado apenas por esta classe enquanto ela estiver em uso.
+ */
+public class DijkstraDinamico {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final Grafo g;
+    private final int s; // Raiz (0-based)
+    private final int n;
+
+    // Arestas de saída e de entrada de cada vértice, com pesos paralelos
+    private final int[][] saida;
+    private final int[][] pesoSaida;
+    private final int[] grauSaida;
+    private final int[][] entrada;
+    private final int[][] pesoEntrada;
+    private final int[] grauEntrada;
+
+    private final int[] dist;
+    private final int[] pred;
+    private final HeapIndexado heap;
+    private final int[] marca; // marca[v] == rodada se v está na subárvore afetada pela atualização atual
+    private int rodada;
+    private int[] afetados;
+    private int tocados; // Vértices cuja distância foi recalculada na última atualização
+
+    /**
+     * Calcula a árvore inicial
+     * @param g Grafo direcionado com pesos não negativos
+     * @param s Vértice raiz (1-based)
+     */
+    public DijkstraDinamico(Grafo g, int s) {
+        this.g = g;
+        this.s = s-1;
+        this.n = g.getVertices();
+        saida = new int[n][];
+        pesoSaida = new int[n][];
+        grauSaida = new int[n];
+        entrada = new int[n][];
+        pesoEntrada = new int[n][];
+        grauEntrada = new int[n];
+        for (int u = 0; u < n; u++) {
+            saida[u] = new int[4];
+            pesoSaida[u] = new int[4];
+            entrada[u] = new int[4];
+            pesoEntrada[u] = new int[4];
+        }
+        for (int u = 0; u < n; u++) {
+            List<Integer> vizinhos = g.getListaAdjacencia().get(u);
+            int[] pesos = g.getPesosAdjacencia(u);
+            for (int i = 0; i < vizinhos.size(); i++) {
+                registrar(u, vizinhos.get(i), pesos[i]);
+            }
+        }
+
+        dist = new int[n];
+        pred = new int[n];
+        heap = new HeapIndexado(n);
+        marca = new int[n];
+        afetados = new int[16];
+        Arrays.fill(dist, INF);
+        Arrays.fill(pred, -1);
+        dist[this.s] = 0;
+        heap.inserirOuDiminuir(this.s, 0);
+        propagar(false);
+    }
+
+    /**
+     * Adiciona a aresta (origem → destino) ao grafo e repara a árvore. Se a aresta já existir com peso maior,
+     * equivale a diminuir o peso
+     * @param origem Vértice de origem (0-based, como em Grafo.adicionarAresta)
+     * @param destino Vértice de destino (0-based)
+     */
+    public void adicionarAresta(int origem, int destino, int peso) {
+        g.adicionarAresta(origem, destino, peso);
+        int atual = pesoAtual(origem, destino);
+        if (atual == -1) {
+            registrar(origem, destino, peso);
+            diminuiu(origem, destino, peso);
+        } else if (peso < atual) {
+            atualizar(origem, destino, peso);
+            diminuiu(origem, destino, peso);
+        } else {
+            tocados = 0;
+        }
+    }
+
+    /**
+     * Altera o peso da aresta (origem → destino) no grafo e repara a árvore
+     * @return false se a aresta não existir
+     */
+    public boolean alterarPeso(int origem, int destino, int peso) {
+        int atual = pesoAtual(origem, destino);
+        if (atual == -1 || !g.setPeso(origem, destino, peso)) {
+            return false;
+        }
+        atualizar(origem, destino, peso);
+        if (peso < atual) diminuiu(origem, destino, peso);
+        else if (peso > atual) aumentou(origem, destino);
+        else tocados = 0;
+        return true;
+    }
+
+    // Distância da raiz até t (1-based), ou Integer.MAX_VALUE se t não for alcançável
+    public int distancia(int t) {
+        return dist[t-1];
+    }
+
+    public int getTocados() {
+        return tocados;
+    }
+
+    /**
+     * Copia a árvore atual para um resultado no formato de Dijkstra.execute
+     * @param target Vértice alvo (1-based), ou 0 para não montar o caminho
+     */
+    public DijkstraResult resultado(int target) {
+        DijkstraResult dr = new DijkstraResult(n, s+1);
+        System.arraycopy(dist, 0, dr.distance, 0, n);
+        System.arraycopy(pred, 0, dr.predecessor, 0, n);
+        for (int v = 0; v < n; v++) {
+            if (dist[v] != INF) dr.visited.set(v);
+        }
+        Dijkstra.buildPath(dr, n, s+1, target);
+        return dr;
+    }
+
+    private void diminuiu(int u, int v, int peso) {
+        tocados = 0;
+        if (dist[u] == INF || dist[u] + peso >= dist[v]) return;
+        dist[v] = dist[u] + peso;
+        pred[v] = u;
+        heap.inserirOuDiminuir(v, dist[v]);
+        propagar(false);
+    }
+
+    private void aumentou(int u, int v) {
+        tocados = 0;
+        if (pred[v] != u) return;
+
+        // Subárvore de v: filhos de x na árvore são os vizinhos de saída com predecessor x
+        rodada++;
+        int qtd = 0;
+        afetados[qtd++] = v;
+        marca[v] = rodada;
+        for (int i = 0; i < qtd; i++) {
+            int x = afetados[i];
+            for (int k = 0; k < grauSaida[x]; k++) {
+                int y = saida[x][k];
+                if (pred[y] == x && marca[y] != rodada) {
+                    marca[y] = rodada;
+                    if (qtd == afetados.length) afetados = Arrays.copyOf(afetados, 2 * qtd);
+                    afetados[qtd++] = y;
+                }
+            }
+        }
+        for (int i = 0; i < qtd; i++) {
+            dist[afetados[i]] = INF;
+            pred[afetados[i]] = -1;
+        }
+
+        // Melhor candidato de cada vértice afetado entre as arestas vindas de vértices não afetados
+        for (int i = 0; i < qtd; i++) {
+            int y = afetados[i];
+            for (int k = 0; k < grauEntrada[y]; k++) {
+                int x = entrada[y][k];
+                if (marca[x] != rodada && dist[x] != INF && dist[x] + pesoEntrada[y][k] < dist[y]) {
+                    dist[y] = dist[x] + pesoEntrada[y][k];
+                    pred[y] = x;
+                }
+            }
+            if (dist[y] != INF) heap.inserirOuDiminuir(y, dist[y]);
+        }
+        propagar(true);
+    }
+
+    // Dijkstra a partir do que está no heap; se restrito, só relaxa vértices da subárvore afetada
+    private void propagar(boolean restrito) {
+        while (!heap.vazio()) {
+            int x = heap.removerMinimo();
+            tocados++;
+            for (int k = 0; k < grauSaida[x]; k++) {
+                int y = saida[x][k];
+                if (restrito && marca[y] != rodada) continue;
+                int nova = dist[x] + pesoSaida[x][k];
+                if (nova < dist[y]) {
+                    dist[y] = nova;
+                    pred[y] = x;
+                    heap.inserirOuDiminuir(y, nova);
+                }
+            }
+        }
+    }
+
+    // Peso atual de (u, v), ou -1 se não houver aresta
+    private int pesoAtual(int u, int v) {
+        for (int k = 0; k < grauSaida[u]; k++) {
+            if (saida[u][k] == v) return pesoSaida[u][k];
+        }
+        return -1;
+    }
+
+    private void atualizar(int u, int v, int peso) {
+        for (int k = 0; k < grauSaida[u]; k++) {
+            if (saida[u][k] == v) pesoSaida[u][k] = peso;
+        }
+        for (int k = 0; k < grauEntrada[v]; k++) {
+            if (entrada[v][k] == u) pesoEntrada[v][k] = peso;
+        }
+    }
+
+    // Registra (u, v) nas listas de saída e entrada; arestas paralelas ficam com o menor peso
+    private void registrar(int u, int v, int peso) {
+        int atual = pesoAtual(u, v);
+        if (atual != -1) {
+            if (peso < atual) atualizar(u, v, peso);
+            return;
+        }
+        if (grauSaida[u] == saida[u].length) {
+            saida[u] = Arrays.copyOf(saida[u], 2 * grauSaida[u]);
+            pesoSaida[u] = Arrays.copyOf(pesoSaida[u], 2 * grauSaida[u]);
+        }
+        saida[u][grauSaida[u]] = v;
+        pesoSaida[u][grauSaida[u]++] = peso;
+        if (grauEntrada[v] == entrada[v].length) {
+            entrada[v] = Arrays.copyOf(entrada[v], 2 * grauEntrada[v]);
+            pesoEntrada[v] = Arrays.copyOf(pesoEntrada[v], 2 * grauEntrada[v]);
+        }
+        entrada[v][grauEntrada[v]] = u;
+        pesoEntrada[v][grauEntrada[v]++] = peso;
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing dynamic Dijkstra ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+            DijkstraDinamico sssp = new DijkstraDinamico(g, 1);
+            System.out.printf("1 -> 15: cost %d%n", sssp.distancia(15));
+
+            sssp.adicionarAresta(5, 13, 2);
+            System.out.printf("After adding 6 -> 14 (2): cost %d, %d vertices touched%n", sssp.distancia(15), sssp.getTocados());
+
+            sssp.alterarPeso(5, 13, 40);
+            System.out.printf("After raising 6 -> 14 to 40: cost %d, %d vertices touched%n", sssp.distancia(15), sssp.getTocados());
+
+            DijkstraResult shortest_path = sssp.resultado(15);
+            shortest_path.PrintResults();
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.FilaPrioridade;
+import Miscs.GrafoEsparso;
+
+public class DijkstraHeap {
+    /**
+     * Executa o algoritmo de Dijkstra com heap indexado sobre um grafo g, visitando todos os vértices alcançáveis
+     * @param g Grafo em que o algoritmo será executado
+     * @param s Vértice raiz onde o algoritmo começará a ser executado
+     * @param target Vértice alvo em caso de se desejar obter diretamente o menor caminho partindo do vértice s para ele. Para não devolver uma busca, digitar: 0
+     * @return Uma classe com os dados obtidos do algoritmo armazenados nele.
+     */
+    static DijkstraResult execute(Grafo g, int s, int target){
+        return execute(GrafoCSR.deGrafo(g), s, target, false);
+    }
+
+    static DijkstraResult execute(GrafoEsparso g, int s, int target){
+        return execute(g, s, target, false);
+    }
+
+    /**
+     * Executa o algoritmo de Dijkstra com a fila de prioridade escolhida pelo maior peso do grafo
+     * (baldes de Dial para pesos pequenos, heap radix para os demais)
+     * @param g Grafo em formato CSR em que o algoritmo será executado
+     * @param s Vértice raiz (1-based)
+     * @param target Vértice alvo (1-based), ou 0 para não montar o caminho
+     * @param pararNoAlvo Se true, a busca termina assim que o alvo é visitado; as distâncias dos vértices
+     *                    ainda não visitados ficam como estimativas (ou Integer.MAX_VALUE)
+     * @return Uma classe com os dados obtidos do algoritmo, no mesmo formato de Dijkstra.execute
+     */
+    static DijkstraResult execute(GrafoEsparso g, int s, int target, boolean pararNoAlvo){
+        return execute(g, s, target, pararNoAlvo, FilaPrioridade.para(g));
+    }
+
+    /**
+     * Executa o algoritmo de Dijkstra em O((V+E) log V) com heap indexado, ou quase linear com as filas de baldes
+     * @param heap Fila de prioridade vazia com capacidade para os vértices de g
+     */
+    static DijkstraResult execute(GrafoEsparso g, int s, int target, boolean pararNoAlvo, FilaPrioridade heap){
+        int n = g.getVertices();
+        DijkstraResult dr = new DijkstraResult(n, s);
+
+        for(int i = 0; i < n; i++){
+            dr.distance[i] = Integer.MAX_VALUE;
+        }
+        dr.distance[s-1] = 0;
+        heap.inserirOuDiminuir(s-1, 0);
+
+        while(!heap.vazio()){
+            // Visita o vértice não visitado de menor distância
+            int x = heap.removerMinimo();
+            dr.visited.set(x);
+
+            if(pararNoAlvo && x == target-1) break;
+
+            for(int e = g.inicio(x); e < g.fim(x); e++){
+                int y = g.destino(e);
+                int nova = dr.distance[x] + g.peso(e);
+                if(!dr.visited.get(y) && nova < dr.distance[y]){
+                    dr.distance[y] = nova;
+                    dr.predecessor[y] = x;
+                    heap.inserirOuDiminuir(y, nova);
+                }
+            }
+        }
+
+        Dijkstra.buildPath(dr, n, s, target);
+        return dr;
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing Dijkstra (heap) ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+
+            DijkstraResult shortest_path = DijkstraHeap.execute(g, 1, 15);
+            shortest_path.PrintResults();
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+import Miscs.EspacoBusca;
+import Miscs.FilaPrioridade;
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Consultas de menor caminho (s, target) em lote sobre o mesmo grafo.
+ * As consultas são divididas entre as threads de um ForkJoinPool; cada tarefa pega emprestada uma área de trabalho
+ * (EspacoBusca) e a devolve no fim, então o número de áreas alocadas fica limitado ao paralelismo do pool,
+ * e elas são reaproveitadas entre chamadas de consultar.
+ */
+public class DijkstraLote {
+    private static final int CONSULTAS_POR_TAREFA = 16;
+
+    private final GrafoEsparso g;
+    private final ConcurrentLinkedQueue<EspacoBusca> livres = new ConcurrentLinkedQueue<>();
+
+    public DijkstraLote(GrafoEsparso g) {
+        this.g = g;
+    }
+
+    public DijkstraLote(Grafo g) {
+        this(GrafoCSR.deGrafo(g));
+    }
+
+    /**
+     * Resultado compacto de um lote: custo[i] é o custo da consulta i (Integer.MAX_VALUE se não houver caminho)
+     * e, se os caminhos forem pedidos, os vértices (0-based) do caminho i ficam em caminhos[inicio[i]..inicio[i+1]).
+     */
+    public static final class ResultadoLote {
+        public final int[] custo;
+        public final int[] inicio;
+        public final int[] caminhos;
+
+        ResultadoLote(int[] custo, int[] inicio, int[] caminhos) {
+            this.custo = custo;
+            this.inicio = inicio;
+            this.caminhos = caminhos;
+        }
+
+        public int tamanhoCaminho(int i) {
+            return inicio == null ? 0 : inicio[i + 1] - inicio[i];
+        }
+
+        public String caminhoString(int i) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = inicio[i]; j < inicio[i + 1]; j++) {
+                if (j > inicio[i]) sb.append(" -> ");
+                sb.append(caminhos[j] + 1);
+            }
+            return sb.toString();
+        }
+    }
+
+    public ResultadoLote consultar(int[] origens, int[] alvos, boolean incluirCaminhos) {
+        return consultar(origens, alvos, incluirCaminhos, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Executa as consultas origens[i] -> alvos[i] em paralelo
+     * @param origens Vértices raiz (1-based)
+     * @param alvos Vértices alvo (1-based), do mesmo tamanho de origens
+     * @param incluirCaminhos Se false, apenas os custos são devolvidos
+     * @param pool Pool onde as consultas serão executadas
+     * @return Custos (e caminhos) de todas as consultas, na ordem recebida
+     */
+    public ResultadoLote consultar(int[] origens, int[] alvos, boolean incluirCaminhos, ForkJoinPool pool) {
+        int n = g.getVertices();
+        if (origens.length != alvos.length) {
+            throw new IllegalArgumentException("origens e alvos têm tamanhos diferentes: " + origens.length + " e " + alvos.length);
+        }
+        for (int i = 0; i < origens.length; i++) {
+            if (origens[i] < 1 || origens[i] > n || alvos[i] < 1 || alvos[i] > n) {
+                throw new IllegalArgumentException("Consulta " + i + " fora do intervalo de vértices: " + origens[i] + " -> " + alvos[i]);
+            }
+        }
+
+        int[] custo = new int[origens.length];
+        int[][] porConsulta = incluirCaminhos ? new int[origens.length][] : null;
+        pool.invoke(new Consultas(origens, alvos, custo, porConsulta, 0, origens.length));
+        if (!incluirCaminhos) {
+            return new ResultadoLote(custo, null, null);
+        }
+
+        // Junta os caminhos de cada consulta em um único vetor
+        int[] inicio = new int[origens.length + 1];
+        for (int i = 0; i < origens.length; i++) {
+            inicio[i + 1] = inicio[i] + porConsulta[i].length;
+        }
+        int[] caminhos = new int[inicio[origens.length]];
+        for (int i = 0; i < origens.length; i++) {
+            System.arraycopy(porConsulta[i], 0, caminhos, inicio[i], porConsulta[i].length);
+        }
+        return new ResultadoLote(custo, inicio, caminhos);
+    }
+
+    // Dijkstra de s até t (0-based) que para ao visitar t; retorna a distância ou INF
+    private int buscar(EspacoBusca esp, int s, int t) {
+        esp.reiniciar();
+        FilaPrioridade heap = esp.getHeap();
+        esp.definir(s, 0, -1);
+        heap.inserirOuDiminuir(s, 0);
+        while (!heap.vazio()) {
+            int x = heap.removerMinimo();
+            if (x == t) return esp.distancia(t);
+
+            // Com pesos não negativos, um vértice já visitado nunca é melhorado, então não é preciso marcá-lo
+            int dx = esp.distancia(x);
+            for (int e = g.inicio(x); e < g.fim(x); e++) {
+                int y = g.destino(e);
+                int nova = dx + g.peso(e);
+                if (nova < esp.distancia(y)) {
+                    esp.definir(y, nova, x);
+                    heap.inserirOuDiminuir(y, nova);
+                }
+            }
+        }
+        return EspacoBusca.INF;
+    }
+
+    private static int[] caminho(EspacoBusca esp, int s, int t) {
+        if (esp.distancia(t) == EspacoBusca.INF) return new int[0];
+        int tamanho = 1;
+        for (int v = t; v != s; v = esp.predecessor(v)) tamanho++;
+        int[] caminho = new int[tamanho];
+        for (int v = t, i = tamanho - 1; i >= 0; v = esp.predecessor(v), i--) caminho[i] = v;
+        return caminho;
+    }
+
+    private EspacoBusca emprestar() {
+        EspacoBusca esp = livres.poll();
+        return esp != null ? esp : new EspacoBusca(g.getVertices(), FilaPrioridade.para(g));
+    }
+
+    /**
+     * Tarefa fork-join que divide o intervalo de consultas ao meio até restarem poucas consultas
+     */
+    private final class Consultas extends RecursiveAction {
+        private final int[] origens;
+        private final int[] alvos;
+        private final int[] custo;
+        private final int[][] porConsulta;
+        private final int de;
+        private final int ate;
+
+        Consultas(int[] origens, int[] alvos, int[] custo, int[][] porConsulta, int de, int ate) {
+            this.origens = origens;
+            this.alvos = alvos;
+            this.custo = custo;
+            this.porConsulta = porConsulta;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > CONSULTAS_POR_TAREFA) {
+                int meio = (de + ate) >>> 1;
+                invokeAll(new Consultas(origens, alvos, custo, porConsulta, de, meio),
+                        new Consultas(origens, alvos, custo, porConsulta, meio, ate));
+                return;
+            }
+
+            EspacoBusca esp = emprestar();
+            try {
+                for (int i = de; i < ate; i++) {
+                    int s = origens[i] - 1;
+                    int t = alvos[i] - 1;
+                    custo[i] = buscar(esp, s, t);
+                    if (porConsulta != null) porConsulta[i] = caminho(esp, s, t);
+                }
+            } finally {
+                livres.offer(esp);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing batch Dijkstra ------- ");
+            Grafo g = Grafo.lerGrafoDeArquivo("grafos/dijkstra2_direcionado", true);
+            DijkstraLote lote = new DijkstraLote(g);
+
+            int[] origens = {1, 1, 2, 6, 15};
+            int[] alvos = {15, 9, 14, 8, 1};
+            ResultadoLote r = lote.consultar(origens, alvos, true);
+            for(int i = 0; i < origens.length; i++){
+                if(r.custo[i] == Integer.MAX_VALUE) System.out.printf("%2d -> %2d: Path to value not found%n", origens[i], alvos[i]);
+                else System.out.printf("%2d -> %2d: %s     |     Total path cost:     %d%n", origens[i], alvos[i], r.caminhoString(i), r.custo[i]);
+            }
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
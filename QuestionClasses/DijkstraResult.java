@@ -1,50 +1,122 @@
 import Miscs.Grafo;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.BitSet;
 
 public class DijkstraResult {
     public int s;
-    public int[] vertex;
-    public ArrayList<Boolean> visited;
-    public Integer[] predecessor;
+    public BitSet visited;
+    public int[] predecessor; // -1 para a raiz e para vértices não alcançados
     public int[] distance;
-    public LinkedList<Integer> path;
+    public int target; // Vértice alvo (1-based) cujo caminho foi pedido, ou 0
     public int pathCost;
     public String pathString;
 
+    // Caminho montado pela própria busca (bidirecional, hierarquias), quando ele não pode ser lido dos predecessores
+    private int[] explicitPath;
+    private int explicitLength;
+
     public DijkstraResult(Grafo g, int s) {
+        this(g.getVertices(), s);
+    }
+
+    public DijkstraResult(int vertices, int s) {
         this.s = s;
-        this.vertex = new int[g.getVertices()];
-        this.visited = new ArrayList<>();
-        for(int i = 0; i < g.getVertices(); i++) {
-            this.vertex[i] = i;
-            this.visited.add(false);
+        this.visited = new BitSet(vertices);
+        this.predecessor = new int[vertices];
+        Arrays.fill(predecessor, -1);
+        this.distance = new int[vertices];
+        pathCost = -1;
+    }
+
+    public int getVertices() {
+        return distance.length;
+    }
+
+    /**
+     * Indica se a busca encontrou um caminho até o alvo pedido
+     */
+    public boolean hasPath() {
+        return target != 0 && pathCost != -1;
+    }
+
+    /**
+     * Registra um caminho montado diretamente pela busca, usado no lugar dos predecessores para o alvo
+     * @param vertices Vértices do caminho (0-based), da raiz ao alvo
+     * @param length Quantidade de vértices usados de vertices
+     * @param cost Custo total do caminho
+     */
+    public void setPath(int[] vertices, int length, int cost) {
+        explicitPath = vertices;
+        explicitLength = length;
+        target = vertices[length - 1] + 1;
+        pathCost = cost;
+    }
+
+    /**
+     * Número de vértices do caminho da raiz até t, ou 0 se t não foi alcançado
+     * @param t Vértice alvo (1-based)
+     */
+    public int pathLength(int t) {
+        if (explicitPath != null && t == target) return explicitLength;
+        int length = 1;
+        for (int v = t-1; v != s-1; v = predecessor[v]) {
+            if (predecessor[v] == -1) return 0;
+            length++;
         }
+        return length;
+    }
 
-        this.predecessor = new Integer[g.getVertices()];
-        this.distance = new int[g.getVertices()];
-        pathCost = -1;
+    /**
+     * Copia o caminho da raiz até t para out, seguindo os predecessores, sem alocar.
+     * Pode ser chamado para vários alvos da mesma árvore de menores caminhos reaproveitando o mesmo vetor.
+     * @param t Vértice alvo (1-based)
+     * @param out Vetor com ao menos pathLength(t) posições; recebe os vértices (0-based) da raiz ao alvo
+     * @return Número de vértices escritos em out, ou 0 se t não foi alcançado
+     */
+    public int path(int t, int[] out) {
+        if (explicitPath != null && t == target) {
+            System.arraycopy(explicitPath, 0, out, 0, explicitLength);
+            return explicitLength;
+        }
+        int length = pathLength(t);
+        int v = t-1;
+        for (int i = length - 1; i >= 0; i--) {
+            out[i] = v;
+            v = predecessor[v];
+        }
+        return length;
+    }
+
+    /**
+     * Caminho até o alvo pedido na busca, alocado a cada chamada; null se não houver caminho
+     */
+    public int[] getPath() {
+        if (!hasPath()) return null;
+        int[] out = new int[pathLength(target)];
+        path(target, out);
+        return out;
     }
 
     /**
      * Imprime os resultados obtidos do algoritmo de Dijkstra
      */
     public void PrintResults() {
+        int vertices = getVertices();
         System.out.print("Vertex          : ");
-        for (int j : vertex) {
+        for (int j = 0; j < vertices; j++) {
             System.out.printf("%4d ", j + 1);
         }
 
         System.out.print("\nVisited         : ");
-        for (Boolean aBoolean : visited) {
-            System.out.printf("%b ", aBoolean);
+        for (int j = 0; j < vertices; j++) {
+            System.out.printf("%b ", visited.get(j));
         }
 
         System.out.print("\nPredecessor     : ");
-        for (Integer integer : predecessor) {
-            if (integer == null) System.out.print("  -- ");
-            else System.out.printf("%4d ", integer + 1);
+        for (int p : predecessor) {
+            if (p == -1) System.out.print("  -- ");
+            else System.out.printf("%4d ", p + 1);
         }
 
         System.out.printf("\nDistance from %2d: ", s);
@@ -53,12 +125,13 @@ public class DijkstraResult {
         }
 
         System.out.println();
+        int[] path = getPath();
         if(path != null){
             pathString = "";
-            System.out.printf("\nPath from %d to target %d:      ", path.getFirst()+1, path.getLast()+1);
-            for(int i : path){
-                if(i == path.getLast()) System.out.printf("%d", i + 1);
-                else System.out.printf("%d -> ", i + 1);
+            System.out.printf("\nPath from %d to target %d:      ", path[0]+1, path[path.length-1]+1);
+            for(int i = 0; i < path.length; i++){
+                if(i == path.length-1) System.out.printf("%d", path[i] + 1);
+                else System.out.printf("%d -> ", path[i] + 1);
             }
 
             System.out.printf("     |     Total path cost:     %d", pathCost);
@@ -1,4 +1,7 @@
-import java.io.*;
+import Miscs.ArquivoArestas;
+import Miscs.EdgeList;
+import Miscs.LeitorArestas;
+
 import java.util.*;
 
 public class FloydWarshall {
@@ -8,39 +11,15 @@ public class FloydWarshall {
 
     public static void main(String[] args) throws Exception {
 
-        // Abre o arquivo de texto contendo o grafo
-        BufferedReader br = new BufferedReader(new FileReader("../grafos/grafo-floydwarshall.txt"));
-
-        // Lê a primeira linha com o vértice inicial e final
-        String[] startEnd = br.readLine().trim().split(" ");
-        int start = Integer.parseInt(startEnd[0]);
-        int end = Integer.parseInt(startEnd[1]);
-
-        // Lista temporária para armazenar as arestas lidas do arquivo
-        ArrayList<int[]> edges = new ArrayList<>();
-
-        String line;
-        int maxVertex = 0;
+        // Lê o arquivo de texto contendo o grafo (blocos interpretados em paralelo)
+        ArquivoArestas arquivo = LeitorArestas.ler("../grafos/grafo-floydwarshall.txt");
 
-        // Lê as demais linhas (arestas)
-        while ((line = br.readLine()) != null) {
+        // A primeira linha tem o vértice inicial e final
+        int start = arquivo.cabecalho[0];
+        int end = arquivo.cabecalho[1];
 
-            // Ignora linhas vazias
-            if (line.trim().isEmpty()) continue;
-
-            // Divide a linha em u v w
-            String[] parts = line.trim().split(" ");
-            int u = Integer.parseInt(parts[0]);
-            int v = Integer.parseInt(parts[1]);
-            int w = Integer.parseInt(parts[2]);
-
-            // Adiciona a aresta na lista
-            edges.add(new int[]{u, v, w});
-
-            // Atualiza o maior número de vértice encontrado
-            maxVertex = Math.max(maxVertex, Math.max(u, v));
-        }
-        br.close();
+        // Maior número de vértice encontrado nas arestas
+        int maxVertex = arquivo.maiorVertice;
 
         // Quantidade total de vértices (1 até maxVertex)
         int n = maxVertex;
@@ -56,8 +35,9 @@ public class FloydWarshall {
         }
 
         // Insere cada aresta na matriz dist
-        for (int[] e : edges) {
-            int u = e[0], v = e[1], w = e[2];
+        EdgeList edges = arquivo.arestas;
+        for (int e = 0; e < edges.size(); e++) {
+            int u = edges.src(e), v = edges.dst(e), w = edges.weight(e);
             dist[u][v] = w;  // custo da aresta u -> v
             next[u][v] = v;  // para ir de u até v, o próximo nó é v
         }
@@ -0,0 +1,204 @@
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Floyd–Warshall em blocos sobre matrizes achatadas.
+ * A matriz é dividida em blocos B x B e, para cada bloco kb da diagonal, são feitas três fases:
+ * o próprio bloco diagonal, os blocos da linha e da coluna kb (que só dependem do diagonal) e, por fim,
+ * os demais blocos (que só dependem da linha e da coluna kb). Cada fase trabalha em poucos blocos por vez,
+ * que cabem na cache, em vez de varrer a matriz inteira a cada k.
+ * Os blocos de uma mesma fase 2 ou 3 são independentes entre si e podem ser processados em paralelo.
+ * Uma matriz auxiliar de saltos desfaz os empates de distância (ver KernelMinPlus), para que a matriz next
+ * nunca forme ciclos quando o grafo tem ciclos de peso zero.
+ */
+public class FloydWarshallBlocado {
+    private static final int INF = ResultadoAPSP.INF;
+    public static final int TAMANHO_BLOCO_PADRAO = 64;
+
+    static ResultadoAPSP execute(GrafoEsparso g){
+        return execute(g, TAMANHO_BLOCO_PADRAO);
+    }
+
+    static ResultadoAPSP execute(GrafoEsparso g, int tamanhoBloco){
+        return execute(g, tamanhoBloco, null);
+    }
+
+    /**
+     * Calcula os menores caminhos entre todos os pares
+     * @param g Grafo em formato CSR (pesos podem ser negativos, sem ciclos negativos)
+     * @param tamanhoBloco Lado de cada bloco; blocos de 32 a 128 costumam caber na cache L1/L2
+     * @param pool Pool onde os blocos independentes de cada fase são processados, ou null para executar na thread atual
+     * @return Matrizes de distâncias e de próximo vértice
+     */
+    static ResultadoAPSP execute(GrafoEsparso g, int tamanhoBloco, ForkJoinPool pool){
+        return execute(g, tamanhoBloco, pool, KernelMinPlus.PADRAO);
+    }
+
+    /**
+     * Calcula os menores caminhos entre todos os pares com um kernel min-plus escolhido
+     * @param g Grafo em formato CSR (pesos podem ser negativos, sem ciclos negativos)
+     * @param tamanhoBloco Lado de cada bloco
+     * @param pool Pool dos blocos independentes, ou null para executar na thread atual
+     * @param kernel Laço interno usado em cada bloco (KernelMinPlus.ESCALAR ou KernelMinPlus.vetorial())
+     * @return Matrizes de distâncias e de próximo vértice
+     */
+    static ResultadoAPSP execute(GrafoEsparso g, int tamanhoBloco, ForkJoinPool pool, KernelMinPlus kernel){
+        ResultadoAPSP r = ResultadoAPSP.inicial(g);
+        int n = r.n;
+        int[] saltos = saltosIniciais(r);
+        int b = Math.max(1, Math.min(tamanhoBloco, n));
+        int blocos = (n + b - 1) / b;
+        boolean paralelo = pool != null && pool.getParallelism() > 1 && blocos > 2;
+
+        for(int kb = 0; kb < blocos; kb++){
+            // Fase 1: bloco diagonal
+            atualizarBloco(r, saltos, kb, kb, kb, b, kernel);
+
+            // Fase 2: blocos da linha kb e da coluna kb; cada invoke só retorna quando a fase termina
+            Fase linhaColuna = new Fase(r, saltos, b, blocos, kb, false, kernel, 0, 2 * blocos);
+            if(paralelo) pool.invoke(linhaColuna);
+            else linhaColuna.compute();
+
+            // Fase 3: demais blocos, uma linha de blocos por tarefa
+            Fase restantes = new Fase(r, saltos, b, blocos, kb, true, kernel, 0, blocos);
+            if(paralelo) pool.invoke(restantes);
+            else restantes.compute();
+        }
+        return r;
+    }
+
+    // Saltos das matrizes iniciais: 0 na diagonal, 1 em cada aresta; o valor dos pares sem caminho nunca é lido
+    static int[] saltosIniciais(ResultadoAPSP r){
+        int n = r.n;
+        int[] saltos = new int[n * n];
+        for(int i = 0; i < n; i++){
+            for(int j = 0; j < n; j++){
+                if(i != j && r.next[i * n + j] != -1) saltos[i * n + j] = 1;
+            }
+        }
+        return saltos;
+    }
+
+    /**
+     * Tarefa fork-join que divide os blocos de uma fase. Na fase 2 o índice x em [0, 2 * blocos) representa o bloco
+     * (kb, x) ou (x - blocos, kb); na fase 3 representa a linha de blocos ib = x
+     */
+    private static final class Fase extends RecursiveAction {
+        private final ResultadoAPSP r;
+        private final int[] saltos;
+        private final int b;
+        private final int blocos;
+        private final int kb;
+        private final boolean restantes;
+        private final KernelMinPlus kernel;
+        private final int de;
+        private final int ate;
+
+        Fase(ResultadoAPSP r, int[] saltos, int b, int blocos, int kb, boolean restantes, KernelMinPlus kernel, int de, int ate) {
+            this.r = r;
+            this.saltos = saltos;
+            this.b = b;
+            this.blocos = blocos;
+            this.kb = kb;
+            this.restantes = restantes;
+            this.kernel = kernel;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > 1 && getPool() != null) {
+                int meio = (de + ate) >>> 1;
+                invokeAll(new Fase(r, saltos, b, blocos, kb, restantes, kernel, de, meio),
+                        new Fase(r, saltos, b, blocos, kb, restantes, kernel, meio, ate));
+                return;
+            }
+
+            for (int x = de; x < ate; x++) {
+                if (restantes) {
+                    if (x == kb) continue;
+                    for (int jb = 0; jb < blocos; jb++) {
+                        if (jb != kb) atualizarBlocoIndependente(r, saltos, x, jb, kb, b, kernel);
+                    }
+                } else if (x < blocos) {
+                    if (x != kb) atualizarBloco(r, saltos, kb, x, kb, b, kernel);
+                } else {
+                    if (x - blocos != kb) atualizarBloco(r, saltos, x - blocos, kb, kb, b, kernel);
+                }
+            }
+        }
+    }
+
+    /**
+     * Relaxa o bloco (ib, jb) passando pelos vértices intermediários do bloco kb
+     */
+    static void atualizarBloco(ResultadoAPSP r, int[] saltos, int ib, int jb, int kb, int b, KernelMinPlus kernel){
+        int n = r.n;
+        int[] dist = r.dist;
+        int[] next = r.next;
+        int iFim = Math.min(n, (ib + 1) * b);
+        int jInicio = jb * b, jFim = Math.min(n, (jb + 1) * b);
+        int kFim = Math.min(n, (kb + 1) * b);
+
+        for(int k = kb * b; k < kFim; k++){
+            int linhaK = k * n;
+            for(int i = ib * b; i < iFim; i++){
+                int linhaI = i * n;
+                int dik = dist[linhaI + k];
+                if(dik >= INF) continue;
+                kernel.relaxar(dist, next, saltos, linhaI, dist, saltos, linhaK, jInicio, jFim,
+                        dik, next[linhaI + k], saltos[linhaI + k]);
+            }
+        }
+    }
+
+    /**
+     * Mesmo relaxamento de atualizarBloco para um bloco fora da linha e da coluna kb. Como os blocos lidos
+     * (ib, kb) e (kb, jb) não mudam nesta fase, k pode ficar no laço do meio e a linha i do bloco é reaproveitada
+     * para todos os k antes de passar à próxima.
+     */
+    static void atualizarBlocoIndependente(ResultadoAPSP r, int[] saltos, int ib, int jb, int kb, int b, KernelMinPlus kernel){
+        int n = r.n;
+        int[] dist = r.dist;
+        int[] next = r.next;
+        int iFim = Math.min(n, (ib + 1) * b);
+        int jInicio = jb * b, jFim = Math.min(n, (jb + 1) * b);
+        int kInicio = kb * b, kFim = Math.min(n, (kb + 1) * b);
+
+        for(int i = ib * b; i < iFim; i++){
+            int linhaI = i * n;
+            for(int k = kInicio; k < kFim; k++){
+                int dik = dist[linhaI + k];
+                if(dik >= INF) continue;
+                kernel.relaxar(dist, next, saltos, linhaI, dist, saltos, k * n, jInicio, jFim,
+                        dik, next[linhaI + k], saltos[linhaI + k]);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing blocked Floyd-Warshall ------- ");
+            GrafoCSR g = GrafoCSR.lerDeArquivo("grafos/dijkstra2_direcionado", true);
+
+            ResultadoAPSP r = FloydWarshallBlocado.execute(g, 8, ForkJoinPool.commonPool());
+            List<Integer> path = r.reconstructPath(1, 15);
+            System.out.println("Distance from 1 to 15: " + r.distancia(1, 15));
+            System.out.println("Path: " + path);
+
+            // Ciclo de peso zero entre 2 e 3: com blocos menores que o grafo, next não pode apontar de 2 para 3 e de 3 para 2
+            GrafoCSR zero = GrafoCSR.lerDeArquivo("grafos/ciclo_zero_direcionado", true);
+            ResultadoAPSP rz = FloydWarshallBlocado.execute(zero, 2, null);
+            System.out.println("Zero-weight cycle, distance from 2 to 1: " + rz.distancia(2, 1));
+            System.out.println("Path: " + rz.reconstructPath(2, 1));
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
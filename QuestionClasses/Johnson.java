@@ -0,0 +1,228 @@
+import Miscs.EdgeList;
+import Miscs.EspacoBusca;
+import Miscs.FilaPrioridade;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Algoritmo de Johnson para menores caminhos entre todos os pares em grafos esparsos, inclusive com pesos negativos.
+ * Um Bellman-Ford a partir de um vértice virtual ligado a todos (com peso 0) dá potenciais h tais que
+ * w(u, v) + h(u) - h(v) >= 0; com os pesos reajustados, cada linha da matriz é um Dijkstra, e as linhas são
+ * calculadas em paralelo. Custo O(V E log V), contra O(V³) do Floyd–Warshall.
+ */
+public class Johnson {
+    private static final int INF = ResultadoAPSP.INF;
+    private static final int ORIGENS_POR_TAREFA = 4;
+
+    static ResultadoAPSP execute(GrafoEsparso g){
+        return execute(g, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcula os menores caminhos entre todos os pares
+     * @param g Grafo em formato CSR
+     * @param pool Pool onde os Dijkstras são executados
+     * @return Matrizes de distâncias e de próximo vértice, no mesmo formato de FloydWarshallBlocado
+     * @throws IllegalArgumentException Se o grafo tiver um ciclo negativo
+     */
+    static ResultadoAPSP execute(GrafoEsparso g, ForkJoinPool pool){
+        int n = g.getVertices();
+        ResultadoAPSP r = new ResultadoAPSP(n);
+        executarLinhas(g, pool, (s, dist, next) -> {
+            System.arraycopy(dist, 0, r.dist, s * n, n);
+            System.arraycopy(next, 0, r.next, s * n, n);
+        });
+        return r;
+    }
+
+    /**
+     * Recebe cada linha das matrizes assim que ela é calculada; é chamado por várias threads, com origens distintas
+     */
+    interface DestinoLinhas {
+        void gravar(int s, int[] dist, int[] next);
+    }
+
+    /**
+     * Calcula as linhas das matrizes de distância e próximo vértice e entrega cada uma ao destino, sem montar a matriz
+     * inteira na memória. Os vetores entregues são reaproveitados para a linha seguinte.
+     * @throws IllegalArgumentException Se o grafo tiver um ciclo negativo, ou se um potencial ou uma distância
+     * não couber em (-INF, INF)
+     */
+    static void executarLinhas(GrafoEsparso g, ForkJoinPool pool, DestinoLinhas destino){
+        int n = g.getVertices();
+        int[] h = potenciais(g);
+
+        // Pesos reajustados, todos não negativos e calculados em long. Um peso que não cabe em int só levaria a
+        // distâncias acima de INF, então satura em Integer.MAX_VALUE, valor que o Dijkstra nunca relaxa
+        EdgeList reajustadas = new EdgeList(g.getNumArestas());
+        for(int u = 0; u < n; u++){
+            for(int e = g.inicio(u); e < g.fim(u); e++){
+                int v = g.destino(e);
+                long peso = (long) g.peso(e) + h[u] - h[v];
+                reajustadas.add(u, v, (int) Math.min(Integer.MAX_VALUE, peso));
+            }
+        }
+        GrafoCSR positivo = GrafoCSR.deArestas(n, reajustadas, true);
+
+        pool.invoke(new Linhas(positivo, h, destino, new ConcurrentLinkedQueue<>(), 0, n));
+    }
+
+    /**
+     * Potenciais de Johnson: distância de um vértice virtual, ligado a todos com peso 0, calculada por BellmanFord.spfa.
+     * Sem pesos negativos os potenciais são todos 0 e o Bellman-Ford é dispensado.
+     */
+    static int[] potenciais(GrafoEsparso g){
+        int n = g.getVertices();
+        boolean temNegativo = false;
+        for(int e = 0; e < g.getNumArestas() && !temNegativo; e++){
+            temNegativo = g.peso(e) < 0;
+        }
+        if(!temNegativo) return new int[n];
+
+        EdgeList arestas = new EdgeList(g.getNumArestas() + n);
+        for(int u = 0; u < n; u++){
+            for(int e = g.inicio(u); e < g.fim(u); e++){
+                arestas.add(u, g.destino(e), g.peso(e));
+            }
+            arestas.add(n, u, 0);
+        }
+        long[] distancia = new long[n + 1];
+        int[] predecessor = new int[n + 1];
+        if(!BellmanFord.spfa(GrafoCSR.deArestas(n + 1, arestas, true), n, distancia, predecessor)){
+            throw new IllegalArgumentException("O grafo contém um ciclo de peso negativo");
+        }
+        int[] h = new int[n];
+        for(int v = 0; v < n; v++){
+            if(distancia[v] <= -INF){
+                throw new IllegalArgumentException("Potencial do vértice " + (v+1) + " abaixo de -" + INF);
+            }
+            h[v] = (int) distancia[v];
+        }
+        return h;
+    }
+
+    /**
+     * Tarefa fork-join que divide as origens; cada folha calcula as linhas da matriz das suas origens
+     */
+    private static final class Linhas extends RecursiveAction {
+        private final GrafoEsparso g;
+        private final int[] h;
+        private final DestinoLinhas destino;
+        private final ConcurrentLinkedQueue<EspacoBusca> livres;
+        private final int de;
+        private final int ate;
+
+        Linhas(GrafoEsparso g, int[] h, DestinoLinhas destino, ConcurrentLinkedQueue<EspacoBusca> livres, int de, int ate) {
+            this.g = g;
+            this.h = h;
+            this.destino = destino;
+            this.livres = livres;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > ORIGENS_POR_TAREFA) {
+                int meio = (de + ate) >>> 1;
+                invokeAll(new Linhas(g, h, destino, livres, de, meio), new Linhas(g, h, destino, livres, meio, ate));
+                return;
+            }
+
+            EspacoBusca esp = livres.poll();
+            if (esp == null) esp = new EspacoBusca(g.getVertices(), FilaPrioridade.para(g));
+            int n = g.getVertices();
+            int[] pilha = new int[n];
+            int[] dist = new int[n];
+            int[] next = new int[n];
+            try {
+                for (int s = de; s < ate; s++) {
+                    linha(esp, pilha, s, dist, next);
+                    destino.gravar(s, dist, next);
+                }
+            } finally {
+                livres.offer(esp);
+            }
+        }
+
+        /**
+         * Dijkstra a partir de s nos pesos reajustados, escrevendo a linha s de dist e next. Distâncias iguais são
+         * desempatadas pelo número de arestas: como cada linha vem de um Dijkstra separado, um empate desfeito de forma
+         * diferente em duas linhas (por um ciclo de peso zero) faria next de uma apontar para a outra e vice-versa.
+         * Um vértice que melhora só nos saltos depois de removido volta para a fila com a mesma chave, o que
+         * mantém as filas monótonas.
+         */
+        private void linha(EspacoBusca esp, int[] pilha, int s, int[] dist, int[] next) {
+            Arrays.fill(dist, INF);
+            Arrays.fill(next, -1);
+
+            esp.reiniciar();
+            FilaPrioridade heap = esp.getHeap();
+            esp.definir(s, 0, -1, 0);
+            heap.inserirOuDiminuir(s, 0);
+            while (!heap.vazio()) {
+                int x = heap.removerMinimo();
+                int dx = esp.distancia(x);
+                int sy = esp.saltos(x) + 1;
+                for (int e = g.inicio(x); e < g.fim(x); e++) {
+                    int y = g.destino(e);
+                    long nova = (long) dx + g.peso(e);
+                    int dy = esp.distancia(y);
+                    if (nova < dy || (nova == dy && dy != EspacoBusca.INF && sy < esp.saltos(y))) {
+                        esp.definir(y, (int) nova, x, sy);
+                        heap.inserirOuDiminuir(y, (int) nova);
+                    }
+                }
+            }
+
+            // O primeiro passo de v é o de seu predecessor; a cadeia de predecessores ainda sem next é empilhada
+            dist[s] = 0;
+            next[s] = s;
+            for (int v = 0; v < dist.length; v++) {
+                if (next[v] != -1 || esp.distancia(v) == EspacoBusca.INF) continue;
+                int topo = 0;
+                int u = v;
+                while (next[u] == -1) {
+                    pilha[topo++] = u;
+                    u = esp.predecessor(u);
+                }
+                while (topo > 0) {
+                    int w = pilha[--topo];
+                    long d = (long) esp.distancia(w) - h[s] + h[w];
+                    if (d >= INF || d <= -INF) {
+                        throw new IllegalArgumentException("Distância de " + (s+1) + " a " + (w+1) + " fora de (-INF, INF)");
+                    }
+                    dist[w] = (int) d;
+                    next[w] = u == s ? w : next[u];
+                    u = w;
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        try{
+            System.out.println(" ------- Executing Johnson ------- ");
+            GrafoCSR g = GrafoCSR.lerDeArquivo("grafos/dijkstra2_direcionado", true);
+
+            ResultadoAPSP r = Johnson.execute(g);
+            List<Integer> path = r.reconstructPath(1, 15);
+            System.out.println("Distance from 1 to 15: " + r.distancia(1, 15));
+            System.out.println("Path: " + path);
+
+            // Ciclo de peso zero entre 3 e 6: as linhas 3 e 6 desempatam pelos saltos e next não alterna entre os dois
+            ResultadoAPSP rz = Johnson.execute(GrafoCSR.lerDeArquivo("grafos/ciclo_zero2_direcionado", true));
+            System.out.println("Zero-weight cycle, distance from 3 to 5: " + rz.distancia(3, 5));
+            System.out.println("Path: " + rz.reconstructPath(3, 5));
+            System.out.println("\n ------- Finished execution ------- ");
+        }catch (Exception e){
+            System.out.println(e.getMessage());
+        }
+    }
+}
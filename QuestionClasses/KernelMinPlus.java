@@ -0,0 +1,100 @@
+/**
+ * Laço interno do Floyd–Warshall: a atualização min-plus de um trecho da linha i pela linha k,
+ * dist[i][j] = min(dist[i][j], dist[i][k] + dist[k][j]), com next[i][j] = next[i][k] quando a distância diminui.
+ * Empates são desfeitos pelo número de arestas (saltos) do caminho, comparando (distância, saltos) em ordem
+ * lexicográfica. Com ciclos de peso zero, a ordem dos blocos poderia escolher em linhas diferentes caminhos
+ * empatados que passam pelo ciclo, e next[i][j] e next[next[i][j]][j] apontariam um para o outro; com os saltos
+ * no desempate, cada passo de next leva a um caminho com um salto a menos, então reconstruir termina.
+ * Há uma versão escalar e uma vetorial (KernelVetorial, sobre jdk.incubator.vector). A vetorial fica fora de
+ * QuestionClasses, em Vetorial/, para que o resto da árvore compile sem o módulo incubado; ela é carregada por nome
+ * e só quando a classe foi compilada e o módulo está presente. Sem isso, o kernel escalar é usado:
+ * <pre>
+ * javac -d out $(find QuestionClasses -name '*.java')
+ * javac --add-modules jdk.incubator.vector -cp out -d out Vetorial/KernelVetorial.java   (opcional)
+ * java --add-modules jdk.incubator.vector -cp out FloydWarshallBlocado
+ * </pre>
+ * A propriedade apsp.kernel=escalar|vetorial escolhe qual PADRAO usa, para comparar as duas.
+ */
+public interface KernelMinPlus {
+    int INF = ResultadoAPSP.INF;
+
+    KernelMinPlus ESCALAR = new Escalar();
+    KernelMinPlus PADRAO = padrao();
+
+    /**
+     * Relaxa dist[linhaI + j] para j em [inicio, fim) passando por k
+     * @param dist Matriz (ou faixa) que contém a linha i
+     * @param next Matriz de próximo vértice, com a mesma disposição de dist
+     * @param saltos Número de arestas de cada caminho, com a mesma disposição de dist
+     * @param linhaI Início da linha i em dist, next e saltos
+     * @param distK Matriz (ou faixa) que contém a linha k; pode ser a própria dist
+     * @param saltosK Saltos da linha k, com a mesma disposição de distK
+     * @param linhaK Início da linha k em distK e saltosK
+     * @param dik dist[i][k], menor que INF
+     * @param nik next[i][k]
+     * @param sik saltos[i][k]
+     */
+    void relaxar(int[] dist, int[] next, int[] saltos, int linhaI, int[] distK, int[] saltosK, int linhaK,
+                 int inicio, int fim, int dik, int nik, int sik);
+
+    /**
+     * O kernel vetorial, ou null se o módulo jdk.incubator.vector ou a classe KernelVetorial não estiverem disponíveis
+     */
+    static KernelMinPlus vetorial() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            // Carregado por nome para que nenhuma classe do módulo seja resolvida quando ele não estiver presente
+            return (KernelMinPlus) Class.forName("KernelVetorial").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Kernel pelo nome ("escalar" ou "vetorial"); sem o módulo de vetores, "vetorial" recai no escalar
+     * @throws IllegalArgumentException Se o nome não for nenhum dos dois
+     */
+    static KernelMinPlus escolher(String nome) {
+        if (nome.equalsIgnoreCase("escalar")) return ESCALAR;
+        if (!nome.equalsIgnoreCase("vetorial")) {
+            throw new IllegalArgumentException("Kernel desconhecido: " + nome);
+        }
+        KernelMinPlus vetorial = vetorial();
+        return vetorial != null ? vetorial : ESCALAR;
+    }
+
+    // Kernel da propriedade apsp.kernel; um valor inválido não pode derrubar a inicialização da interface
+    private static KernelMinPlus padrao() {
+        String nome = System.getProperty("apsp.kernel", "vetorial");
+        try {
+            return escolher(nome);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Aviso: apsp.kernel=" + nome + " desconhecido; usando o kernel escalar");
+            return ESCALAR;
+        }
+    }
+
+    final class Escalar implements KernelMinPlus {
+        @Override
+        public void relaxar(int[] dist, int[] next, int[] saltos, int linhaI, int[] distK, int[] saltosK, int linhaK,
+                            int inicio, int fim, int dik, int nik, int sik) {
+            for (int j = inicio; j < fim; j++) {
+                int dkj = distK[linhaK + j];
+                // dkj < INF evita que um peso negativo transforme "sem caminho" em uma distância
+                if (dkj >= INF) continue;
+                int nova = dik + dkj, dij = dist[linhaI + j];
+                int s = sik + saltosK[linhaK + j];
+                if (nova < dij || (nova == dij && dij < INF && s < saltos[linhaI + j])) {
+                    dist[linhaI + j] = nova;
+                    next[linhaI + j] = nik;
+                    saltos[linhaI + j] = s;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "escalar";
+        }
+    }
+}
@@ -1,25 +1,6 @@
-import java.io.*;
-import java.util.*;
-
-/**
- * Classe que representa uma aresta do grafo.
- * Implementa Comparable para permitir ordenação por peso.
- */
-class Edge implements Comparable<Edge> {
-    int u, v, w; // u = origem, v = destino, w = peso da aresta
-
-    public Edge(int u, int v, int w) {
-        this.u = u;
-        this.v = v;
-        this.w = w;
-    }
-
-    // Método usado para ordenar arestas pelo peso (crescente)
-    @Override
-    public int compareTo(Edge other) {
-        return Integer.compare(this.w, other.w);
-    }
-}
+import Miscs.ArquivoArestas;
+import Miscs.EdgeList;
+import Miscs.LeitorArestas;
 
 /**
  * Implementação da estrutura Union-Find (Disjoint Set Union)
@@ -74,34 +55,56 @@ class UnionFind {
 
 public class Kruskal {
 
+    /**
+     * Executa o algoritmo de Kruskal.
+     * As arestas são ordenadas por peso no próprio EdgeList recebido.
+     *
+     * @param edges     Arestas do grafo (vértices 1-based)
+     * @param maxVertex Maior índice de vértice presente nas arestas
+     * @return As arestas da árvore (ou floresta) geradora mínima
+     */
+    public static EdgeList kruskalMST(EdgeList edges, int maxVertex) {
+        // Ordena as arestas pelo peso
+        edges.sortByWeight();
+
+        // Estrutura Union-Find com base no número de vértices encontrados
+        UnionFind uf = new UnionFind(maxVertex);
+
+        EdgeList mst = new EdgeList(); // arestas da árvore geradora mínima
+
+        // Percorre as arestas em ordem crescente
+        for (int i = 0; i < edges.size(); i++) {
+            int u = edges.src(i);
+            int v = edges.dst(i);
+            // Se u e v pertencem a componentes diferentes
+            if (uf.find(u) != uf.find(v)) {
+                // ... então podemos unir (não forma ciclo)
+                uf.union(u, v);
+                mst.add(u, v, edges.weight(i)); // adiciona na solução
+            }
+        }
+        return mst;
+    }
+
     public static void main(String[] args) {
 
         String file = "../grafos/grafo-kruskal.txt"; // arquivo de entrada
-        List<Edge> edges = new ArrayList<>(); // lista de arestas lidas
+        EdgeList edges; // lista de arestas lidas
         int maxVertex = 0; // maior índice de vértice encontrado
         int numArestas = 0;
 
-        // lê  arquivo
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
+        // lê  arquivo (LeitorArestas interpreta os blocos do arquivo em paralelo)
+        try {
+            ArquivoArestas arquivo = LeitorArestas.ler(file);
 
             // Primeira linha contém o número de arestas
-            numArestas = Integer.parseInt(br.readLine().trim());
-
-            String line;
-            // Cada linha seguinte tem: u,v,w
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",");
+            numArestas = arquivo.cabecalho[0];
 
-                int u = Integer.parseInt(parts[0]);
-                int v = Integer.parseInt(parts[1]);
-                int w = Integer.parseInt(parts[2]);
+            // Cada aresta tem: u,v,w
+            edges = arquivo.arestas;
 
-                // Adiciona a aresta na lista
-                edges.add(new Edge(u, v, w));
-
-                // Descobre o maior vértice
-                maxVertex = Math.max(maxVertex, Math.max(u, v));
-            }
+            // Maior vértice encontrado
+            maxVertex = arquivo.maiorVertice;
 
         } catch (Exception e) {
             System.out.println("Erro ao ler arquivo: " + e.getMessage());
@@ -109,30 +112,13 @@ public class Kruskal {
         }
 
         // Kruskal
+        EdgeList mst = kruskalMST(edges, maxVertex);
 
-        // Ordena as arestas pelo peso
-        Collections.sort(edges);
-
-        // Estrutura Union-Find com base no número de vértices encontrados
-        UnionFind uf = new UnionFind(maxVertex);
-
-        List<Edge> mst = new ArrayList<>(); // arestas da árvore geradora mínima
         int totalCost = 0;
-
-        // Percorre as arestas em ordem crescente
-        for (Edge e : edges) {
-            // Se u e v pertencem a componentes diferentes
-            if (uf.find(e.u) != uf.find(e.v)) {
-                // ... então podemos unir (não forma ciclo)
-                uf.union(e.u, e.v);
-                mst.add(e);      // adiciona na solução
-                totalCost += e.w; // acumula custo
-            }
-        }
-
         System.out.println("Árvore Geradora Mínima (Kruskal):");
-        for (Edge e : mst) {
-            System.out.println(e.u + " -- " + e.v + "  (peso " + e.w + ")");
+        for (int i = 0; i < mst.size(); i++) {
+            System.out.println(mst.src(i) + " -- " + mst.dst(i) + "  (peso " + mst.weight(i) + ")");
+            totalCost += mst.weight(i); // acumula custo
         }
 
         System.out.println("Custo total: " + totalCost);
@@ -0,0 +1,17 @@
+package Miscs;
+
+/**
+ * Conteúdo de um arquivo de arestas lido por LeitorArestas.
+ * Os vértices são mantidos exatamente como aparecem no arquivo (1-based nos arquivos de grafos/).
+ */
+public final class ArquivoArestas {
+    public final int[] cabecalho; // Números da primeira linha (ex.: nº de vértices, ou início e fim)
+    public final EdgeList arestas; // Arestas na ordem do arquivo
+    public final int maiorVertice; // Maior índice de vértice encontrado nas arestas
+
+    public ArquivoArestas(int[] cabecalho, EdgeList arestas, int maiorVertice) {
+        this.cabecalho = cabecalho;
+        this.arestas = arestas;
+        this.maiorVertice = maiorVertice;
+    }
+}
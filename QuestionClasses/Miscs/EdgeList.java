@@ -0,0 +1,144 @@
+package Miscs;
+
+import java.util.Arrays;
+
+/**
+ * Lista de arestas em vetores primitivos paralelos (struct-of-arrays): src[i], dst[i], weight[i].
+ * Substitui listas de objetos por aresta, evitando um cabeçalho de objeto e um ponteiro por aresta
+ * nos laços de relaxação e de union-find.
+ *
+ * Uma view compartilha os vetores da lista original e enxerga apenas o intervalo [from, to);
+ * views não podem crescer, mas podem ser ordenadas e alteradas no lugar.
+ */
+public final class EdgeList {
+    private int[] src;
+    private int[] dst;
+    private int[] weight;
+    private final int offset; // Posição da primeira aresta nos vetores (diferente de 0 apenas em views)
+    private int size;
+    private final boolean view;
+
+    public EdgeList() {
+        this(16);
+    }
+
+    public EdgeList(int capacity) {
+        this(new int[capacity], new int[capacity], new int[capacity], 0, 0, false);
+    }
+
+    private EdgeList(int[] src, int[] dst, int[] weight, int offset, int size, boolean view) {
+        this.src = src;
+        this.dst = dst;
+        this.weight = weight;
+        this.offset = offset;
+        this.size = size;
+        this.view = view;
+    }
+
+    /**
+     * Usa os vetores informados diretamente, sem copiá-los
+     */
+    public static EdgeList wrap(int[] src, int[] dst, int[] weight, int size) {
+        return new EdgeList(src, dst, weight, 0, size, false);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int src(int i) {
+        return src[offset + i];
+    }
+
+    public int dst(int i) {
+        return dst[offset + i];
+    }
+
+    public int weight(int i) {
+        return weight[offset + i];
+    }
+
+    public void add(int u, int v, int w) {
+        if (view) {
+            throw new UnsupportedOperationException("Uma view de EdgeList não pode crescer");
+        }
+        if (size == src.length) {
+            int capacity = Math.max(16, 2 * size);
+            src = Arrays.copyOf(src, capacity);
+            dst = Arrays.copyOf(dst, capacity);
+            weight = Arrays.copyOf(weight, capacity);
+        }
+        src[size] = u;
+        dst[size] = v;
+        weight[size] = w;
+        size++;
+    }
+
+    public void set(int i, int u, int v, int w) {
+        src[offset + i] = u;
+        dst[offset + i] = v;
+        weight[offset + i] = w;
+    }
+
+    // Descarta as arestas a partir da posição newSize
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Tamanho inválido: " + newSize);
+        }
+        size = newSize;
+    }
+
+    /**
+     * Retorna uma view das arestas [from, to) que compartilha os vetores desta lista
+     */
+    public EdgeList view(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Intervalo inválido: [" + from + ", " + to + ")");
+        }
+        return new EdgeList(src, dst, weight, offset + from, to - from, true);
+    }
+
+    public int maxVertex() {
+        int max = -1;
+        for (int i = offset; i < offset + size; i++) {
+            max = Math.max(max, Math.max(src[i], dst[i]));
+        }
+        return max;
+    }
+
+    /**
+     * Ordena as arestas por peso crescente, mantendo a ordem original entre arestas de mesmo peso.
+     * Cada aresta vira uma chave long (peso nos bits altos, posição nos 31 bits baixos), que é ordenada
+     * como primitivo e depois usada para permutar os três vetores.
+     */
+    public void sortByWeight() {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            // Inverter o bit de sinal faz pesos negativos ficarem antes dos positivos; com 32 + 31 bits a chave nunca fica negativa
+            long w = (weight[offset + i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            keys[i] = (w << 31) | i;
+        }
+        if (size > 1 << 16) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+
+        int[] newSrc = new int[size];
+        int[] newDst = new int[size];
+        int[] newWeight = new int[size];
+        for (int i = 0; i < size; i++) {
+            int from = offset + (int) (keys[i] & Integer.MAX_VALUE);
+            newSrc[i] = src[from];
+            newDst[i] = dst[from];
+            newWeight[i] = weight[from];
+        }
+        System.arraycopy(newSrc, 0, src, offset, size);
+        System.arraycopy(newDst, 0, dst, offset, size);
+        System.arraycopy(newWeight, 0, weight, offset, size);
+    }
+}
@@ -0,0 +1,76 @@
+package Miscs;
+
+import java.util.Arrays;
+
+/**
+ * Vetores de trabalho de uma busca de menor caminho, reaproveitados entre consultas.
+ * Em vez de preencher distância e predecessor a cada consulta, cada vértice guarda a geração em que foi escrito:
+ * valores de gerações anteriores valem como "não alcançado". Reiniciar custa O(1) (mais a limpeza do heap).
+ * Uma instância deve ser usada por uma thread de cada vez.
+ */
+public final class EspacoBusca {
+    public static final int INF = Integer.MAX_VALUE;
+
+    private final int[] dist;
+    private final int[] pred;
+    private final int[] saltos; // Arestas do caminho até v, para buscas que desempatam distâncias iguais
+    private final int[] marca; // marca[v] == geracao se dist[v] e pred[v] pertencem à busca atual
+    private int geracao;
+    private final FilaPrioridade heap;
+
+    public EspacoBusca(int vertices) {
+        this(vertices, new HeapIndexado(vertices));
+    }
+
+    public EspacoBusca(int vertices, FilaPrioridade heap) {
+        dist = new int[vertices];
+        pred = new int[vertices];
+        saltos = new int[vertices];
+        marca = new int[vertices];
+        this.heap = heap;
+        geracao = 1;
+    }
+
+    public int getVertices() {
+        return dist.length;
+    }
+
+    public FilaPrioridade getHeap() {
+        return heap;
+    }
+
+    // Invalida a busca anterior
+    public void reiniciar() {
+        heap.limpar();
+        if (++geracao == 0) {
+            // Contador deu a volta: marcas antigas poderiam coincidir com a nova geração
+            Arrays.fill(marca, 0);
+            geracao = 1;
+        }
+    }
+
+    public int distancia(int v) {
+        return marca[v] == geracao ? dist[v] : INF;
+    }
+
+    // Predecessor de v na busca atual, ou -1 se v for a raiz ou não tiver sido alcançado
+    public int predecessor(int v) {
+        return marca[v] == geracao ? pred[v] : -1;
+    }
+
+    // Número de arestas do caminho até v na busca atual; só vale para vértices alcançados
+    public int saltos(int v) {
+        return saltos[v];
+    }
+
+    public void definir(int v, int distancia, int predecessor) {
+        definir(v, distancia, predecessor, 0);
+    }
+
+    public void definir(int v, int distancia, int predecessor, int saltos) {
+        dist[v] = distancia;
+        pred[v] = predecessor;
+        this.saltos[v] = saltos;
+        marca[v] = geracao;
+    }
+}
@@ -0,0 +1,109 @@
+package Miscs;
+
+import java.util.Arrays;
+
+/**
+ * Fila de baldes circulares de Dial para pesos inteiros pequenos.
+ * Com pesos em [0, C], as chaves presentes na fila ficam sempre em [atual, atual + C], então C + 1 baldes indexados
+ * por chave % (C + 1) bastam. Inserir e diminuir chave são O(1) e a remoção avança o balde atual, o que dá um
+ * Dijkstra em O(V + E + D), sendo D a maior distância encontrada.
+ */
+public final class FilaDial implements FilaPrioridade {
+    private final int[] cabeca; // cabeca[b] = primeiro vértice do balde b, ou -1
+    private final int[] prox; // Lista duplamente ligada de cada balde
+    private final int[] ant;
+    private final int[] balde; // balde[v] = balde em que v está, ou -1 se não estiver na fila
+    private final int[] chaves;
+    private int atual; // Menor chave que ainda pode estar na fila
+    private int tamanho;
+
+    /**
+     * @param vertices Número de vértices do grafo
+     * @param pesoMaximo Maior peso de aresta do grafo
+     */
+    public FilaDial(int vertices, int pesoMaximo) {
+        cabeca = new int[pesoMaximo + 1];
+        prox = new int[vertices];
+        ant = new int[vertices];
+        balde = new int[vertices];
+        chaves = new int[vertices];
+        Arrays.fill(cabeca, -1);
+        Arrays.fill(balde, -1);
+    }
+
+    @Override
+    public boolean vazio() {
+        return tamanho == 0;
+    }
+
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public boolean contem(int v) {
+        return balde[v] != -1;
+    }
+
+    @Override
+    public int chave(int v) {
+        return chaves[v];
+    }
+
+    @Override
+    public void inserirOuDiminuir(int v, int chave) {
+        if (balde[v] != -1) {
+            if (chave >= chaves[v]) return;
+            desligar(v);
+        } else {
+            tamanho++;
+        }
+        // Todas as chaves presentes ficam a no máximo C da menor, então a fila pode recomeçar da nova chave
+        if (tamanho == 1 || chave < atual) atual = chave;
+        chaves[v] = chave;
+        ligar(v, chave % cabeca.length);
+    }
+
+    @Override
+    public int removerMinimo() {
+        int b = atual % cabeca.length;
+        while (cabeca[b] == -1) {
+            atual++;
+            if (++b == cabeca.length) b = 0;
+        }
+        int v = cabeca[b];
+        desligar(v);
+        tamanho--;
+        return v;
+    }
+
+    // Esvazia a fila em O(C + tamanho)
+    @Override
+    public void limpar() {
+        for (int b = 0; b < cabeca.length && tamanho > 0; b++) {
+            for (int v = cabeca[b]; v != -1; v = prox[v]) {
+                balde[v] = -1;
+                tamanho--;
+            }
+            cabeca[b] = -1;
+        }
+        atual = 0;
+    }
+
+    private void ligar(int v, int b) {
+        balde[v] = b;
+        ant[v] = -1;
+        prox[v] = cabeca[b];
+        if (cabeca[b] != -1) ant[cabeca[b]] = v;
+        cabeca[b] = v;
+    }
+
+    private void desligar(int v) {
+        int b = balde[v];
+        if (ant[v] != -1) prox[ant[v]] = prox[v];
+        else cabeca[b] = prox[v];
+        if (prox[v] != -1) ant[prox[v]] = ant[v];
+        balde[v] = -1;
+    }
+}
@@ -0,0 +1,44 @@
+package Miscs;
+
+/**
+ * Fila de prioridade mínima indexada por vértice, com chaves inteiras não negativas, usada pelas buscas de menor caminho.
+ * As filas de baldes (FilaDial, HeapRadix) são monótonas: toda chave inserida deve ser maior ou igual à última
+ * chave removida, o que vale no Dijkstra com pesos não negativos, mas não em buscas A*.
+ */
+public interface FilaPrioridade {
+    // Pesos até este valor usam os baldes circulares de Dial; acima dele, o heap radix
+    int LIMITE_DIAL = 1 << 12;
+
+    boolean vazio();
+
+    int tamanho();
+
+    boolean contem(int v);
+
+    int chave(int v);
+
+    /**
+     * Insere v com a chave informada, ou diminui a chave de v se ele já estiver na fila com chave maior
+     */
+    void inserirOuDiminuir(int v, int chave);
+
+    // Remove e retorna o vértice de menor chave
+    int removerMinimo();
+
+    // Esvazia a fila para uma nova busca, sem alocar
+    void limpar();
+
+    /**
+     * Escolhe a fila mais adequada para um Dijkstra sobre g pelo maior peso de aresta do grafo. As duas filas escolhidas
+     * são monótonas; buscas em que uma chave inserida pode ser menor que a última removida (A* com heurística, como
+     * AltLandmarks, ou as chaves de aresta do Prim) devem usar HeapIndexado, que aceita qualquer ordem de chaves
+     * ao custo de O(log V) por operação
+     * @param g Grafo em que a busca será feita (pesos não negativos)
+     * @return Baldes de Dial para pesos pequenos e heap radix para os demais
+     */
+    static FilaPrioridade para(GrafoEsparso g) {
+        int pesoMaximo = g.pesoMaximo();
+        if (pesoMaximo <= LIMITE_DIAL) return new FilaDial(g.getVertices(), pesoMaximo);
+        return new HeapRadix(g.getVertices());
+    }
+}
@@ -1,38 +1,58 @@
 package Miscs;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Scanner;
 
 public class Grafo {
     private int vertices; // Número de vértices do grafo
     private List<List<Integer>> listaAdjacencia; // Lista de adjacência para representar conexões
-    private List<Aresta> listaArestas; // Lista de arestas do grafo
-    private int[][] matrizIncidencia; // Matriz de incidência (vértices x arestas)
+    private int[][] pesosAdjacencia; // pesosAdjacencia[u][i] = peso da aresta para listaAdjacencia.get(u).get(i)
+    private EdgeList arestas; // Arestas direcionadas do grafo, em vetores primitivos
+    private IndicePesos indicePesos; // Índice (origem, destino) -> peso, montado sob demanda
+    private int[][] matrizIncidencia; // Matriz de incidência (vértices x arestas), montada sob demanda
+    private long versao; // Incrementada a cada alteração, para invalidar resultados calculados sobre o grafo
 
     // Construtor: inicializa grafo com número de vértices especificado
     public Grafo(int vertices) {
         this.vertices = vertices;
         this.listaAdjacencia = new ArrayList<>();
-        this.listaArestas = new ArrayList<>();
-        this.matrizIncidencia = new int[vertices][vertices];
+        this.arestas = new EdgeList();
+        this.pesosAdjacencia = new int[vertices][];
 
         // Cria lista vazia para cada vértice
         for (int i = 0; i < vertices; i++) {
             listaAdjacencia.add(new ArrayList<>());
-            for(int j = 0; j < vertices; j++){
-                matrizIncidencia[i][j] = -1;
-            }
+            pesosAdjacencia[i] = new int[0];
         }
     }
 
+    /**
+     * Cópia independente de g: listas, pesos, arestas e matriz são copiados, então alterar um dos grafos não muda o
+     * outro nem deixa desatualizados o índice de pesos e a versão do outro. O índice é remontado sob demanda.
+     */
     public Grafo(Grafo g) {
         this.vertices = g.vertices;
-        this.listaAdjacencia = g.listaAdjacencia;
-        this.listaArestas = g.listaArestas;
-        this.matrizIncidencia = g.matrizIncidencia;
+        this.listaAdjacencia = new ArrayList<>(g.listaAdjacencia.size());
+        for (List<Integer> vizinhos : g.listaAdjacencia) {
+            listaAdjacencia.add(new ArrayList<>(vizinhos));
+        }
+        this.pesosAdjacencia = new int[g.pesosAdjacencia.length][];
+        for (int u = 0; u < pesosAdjacencia.length; u++) {
+            pesosAdjacencia[u] = g.pesosAdjacencia[u].clone();
+        }
+        this.arestas = new EdgeList(g.arestas.size());
+        for (int i = 0; i < g.arestas.size(); i++) {
+            arestas.add(g.arestas.src(i), g.arestas.dst(i), g.arestas.weight(i));
+        }
+        if (g.matrizIncidencia != null) {
+            this.matrizIncidencia = new int[g.matrizIncidencia.length][];
+            for (int u = 0; u < matrizIncidencia.length; u++) {
+                matrizIncidencia[u] = g.matrizIncidencia[u].clone();
+            }
+        }
+        this.versao = g.versao;
     }
 
     public int getVertices() {
@@ -41,42 +61,251 @@ public class Grafo {
 
     public void setVertices(int vertices) {
         this.vertices = vertices;
+        versao++;
+    }
+
+    /**
+     * Versão do grafo: muda a cada chamada de um método que altera vértices, arestas ou pesos.
+     * Alterações feitas diretamente nas listas devolvidas por getListaAdjacencia não são detectadas.
+     */
+    public long getVersao() {
+        return versao;
     }
 
     public List<List<Integer>> getListaAdjacencia() {
         return listaAdjacencia;
     }
 
+    /**
+     * Substitui a lista de adjacência mantendo os pesos já conhecidos: cada aresta (u, v) da nova lista recebe o peso
+     * que (u, v) tinha antes (pela matriz, se ela já foi montada, ou pelas listas atuais) e -1 (sem peso) se for nova.
+     * Para definir os pesos junto com a topologia, use setListaAdjacencia(listaAdjacencia, pesos).
+     */
     public void setListaAdjacencia(List<List<Integer>> listaAdjacencia) {
+        int[][] matriz = matrizIncidencia;
+        // Se a lista atual foi alterada no lugar, ela não descreve mais os pesos antigos; só o índice já montado serve
+        IndicePesos anteriores = listaAdjacencia != this.listaAdjacencia ? getIndicePesos() : indicePesos;
+        int[][] pesos = new int[listaAdjacencia.size()][];
+        for (int u = 0; u < listaAdjacencia.size(); u++) {
+            List<Integer> vizinhos = listaAdjacencia.get(u);
+            pesos[u] = new int[vizinhos.size()];
+            for (int i = 0; i < vizinhos.size(); i++) {
+                int v = vizinhos.get(i);
+                if (matriz != null && u < matriz.length && v < matriz[u].length) {
+                    pesos[u][i] = matriz[u][v];
+                } else {
+                    pesos[u][i] = anteriores != null ? anteriores.obter(u, v, -1) : -1;
+                }
+            }
+        }
+        setListaAdjacencia(listaAdjacencia, pesos);
+    }
+
+    /**
+     * Substitui a lista de adjacência e os pesos; pesos[u][i] é o peso da aresta para listaAdjacencia.get(u).get(i).
+     * A matriz, se existir, é descartada e remontada a partir dos novos pesos na próxima chamada de getMatrizIncidencia.
+     */
+    public void setListaAdjacencia(List<List<Integer>> listaAdjacencia, int[][] pesos) {
+        if (pesos.length != listaAdjacencia.size()) {
+            throw new IllegalArgumentException("Esperados pesos para " + listaAdjacencia.size() + " vértices, recebidos " + pesos.length);
+        }
+        for (int u = 0; u < pesos.length; u++) {
+            if (pesos[u].length < listaAdjacencia.get(u).size()) {
+                throw new IllegalArgumentException("Faltam pesos para as arestas do vértice " + u);
+            }
+        }
         this.listaAdjacencia = listaAdjacencia;
+        this.pesosAdjacencia = pesos;
+        this.indicePesos = null;
+        this.matrizIncidencia = null;
+        versao++;
     }
 
     public void setListaArestas(List<Aresta> listaArestas) {
-        this.listaArestas = listaArestas;
+        this.arestas = new EdgeList(listaArestas.size());
+        for (Aresta aresta : listaArestas) {
+            arestas.add(aresta.getOrigem(), aresta.getDestino(), aresta.getPeso());
+        }
+        versao++;
     }
 
+    // Retorna uma cópia das arestas como objetos; algoritmos devem preferir getArestas()
     public List<Aresta> getListaArestas() {
+        List<Aresta> listaArestas = new ArrayList<>(arestas.size());
+        for (int i = 0; i < arestas.size(); i++) {
+            listaArestas.add(new Aresta(arestas.src(i), arestas.dst(i), arestas.weight(i)));
+        }
         return listaArestas;
     }
 
+    public EdgeList getArestas() {
+        return arestas;
+    }
+
+    /**
+     * Pesos paralelos à lista de adjacência: o peso da aresta para listaAdjacencia.get(u).get(i) é getPesosAdjacencia(u)[i].
+     * O vetor pode ter capacidade maior que o grau de u; apenas as primeiras getListaAdjacencia().get(u).size() posições são válidas.
+     */
+    public int[] getPesosAdjacencia(int u) {
+        return pesosAdjacencia[u];
+    }
+
+    /**
+     * Retorna o índice (origem, destino) -> peso, montando-o na primeira chamada em O(V+E)
+     */
+    public IndicePesos getIndicePesos() {
+        if (indicePesos == null) {
+            int arestas = 0;
+            for (List<Integer> vizinhos : listaAdjacencia) {
+                arestas += vizinhos.size();
+            }
+            IndicePesos indice = new IndicePesos(arestas);
+            for (int u = 0; u < listaAdjacencia.size(); u++) {
+                List<Integer> vizinhos = listaAdjacencia.get(u);
+                for (int i = 0; i < vizinhos.size(); i++) {
+                    indice.colocar(u, vizinhos.get(i), pesosAdjacencia[u][i]);
+                }
+            }
+            indicePesos = indice;
+        }
+        return indicePesos;
+    }
+
+    // Peso da aresta (origem → destino), ou -1 se ela não existir (mesma convenção da matriz)
+    public int getPeso(int origem, int destino) {
+        return getIndicePesos().obter(origem, destino, -1);
+    }
+
+    /**
+     * Retorna a matriz V x V de pesos. Ela só é alocada na primeira chamada, a partir da lista de adjacência;
+     * algoritmos que não precisam dela devem usar getPesosAdjacencia ou getPeso, que ocupam O(V+E).
+     */
     public int[][] getMatrizIncidencia() {
+        if (matrizIncidencia == null) {
+            int[][] matriz = new int[vertices][vertices];
+            for (int u = 0; u < vertices; u++) {
+                Arrays.fill(matriz[u], -1);
+                List<Integer> vizinhos = listaAdjacencia.get(u);
+                for (int i = 0; i < vizinhos.size(); i++) {
+                    matriz[u][vizinhos.get(i)] = pesosAdjacencia[u][i];
+                }
+            }
+            matrizIncidencia = matriz;
+        }
         return matrizIncidencia;
     }
 
+    // Substitui a matriz e atualiza os pesos das arestas existentes a partir dela
     public void setMatrizIncidencia(int[][] matrizIncidencia) {
         this.matrizIncidencia = matrizIncidencia;
+        for (int u = 0; u < listaAdjacencia.size(); u++) {
+            List<Integer> vizinhos = listaAdjacencia.get(u);
+            for (int i = 0; i < vizinhos.size(); i++) {
+                pesosAdjacencia[u][i] = matrizIncidencia[u][vizinhos.get(i)];
+            }
+        }
+        this.indicePesos = null;
+        versao++;
     }
 
     // Adiciona aresta direcionada (origem → destino)
     public void adicionarAresta(int origem, int destino, int peso) {
-        listaArestas.add(new Aresta(origem, destino, peso));
-        listaAdjacencia.get(origem).add(destino);
+        arestas.add(origem, destino, peso);
+        adicionarVizinho(origem, destino, peso);
     }
 
-    // Adiciona aresta não direcionada (origem ↔ destino)
+    /**
+     * Altera o peso de todas as arestas (origem → destino), mantendo índice, matriz e lista de arestas atualizados
+     * @return false se não existir aresta (origem → destino)
+     */
+    public boolean setPeso(int origem, int destino, int peso) {
+        List<Integer> vizinhos = listaAdjacencia.get(origem);
+        boolean encontrada = false;
+        for (int i = 0; i < vizinhos.size(); i++) {
+            if (vizinhos.get(i) == destino) {
+                pesosAdjacencia[origem][i] = peso;
+                encontrada = true;
+            }
+        }
+        if (!encontrada) {
+            return false;
+        }
+        for (int i = 0; i < arestas.size(); i++) {
+            if (arestas.src(i) == origem && arestas.dst(i) == destino) {
+                arestas.set(i, origem, destino, peso);
+            }
+        }
+        if (indicePesos != null) {
+            indicePesos.colocar(origem, destino, peso);
+        }
+        if (matrizIncidencia != null) {
+            matrizIncidencia[origem][destino] = peso;
+        }
+        versao++;
+        return true;
+    }
+
+    // Adiciona aresta não direcionada (origem ↔ destino), sem peso associado
     public void adicionarArestaNaoDirecionada(int origem, int destino) {
-        listaAdjacencia.get(origem).add(destino);
-        listaAdjacencia.get(destino).add(origem);
+        adicionarArestaNaoDirecionada(origem, destino, -1);
+    }
+
+    // Adiciona aresta não direcionada (origem ↔ destino) com o mesmo peso nos dois sentidos
+    public void adicionarArestaNaoDirecionada(int origem, int destino, int peso) {
+        adicionarVizinho(origem, destino, peso);
+        adicionarVizinho(destino, origem, peso);
+    }
+
+    // Remove todas as arestas que chegam em destino, sem percorrer a matriz V x V
+    public void removerArestasDeEntrada(int destino) {
+        for (int u = 0; u < listaAdjacencia.size(); u++) {
+            List<Integer> vizinhos = listaAdjacencia.get(u);
+            int[] pesos = pesosAdjacencia[u];
+            int mantidos = 0;
+            for (int i = 0; i < vizinhos.size(); i++) {
+                if (vizinhos.get(i) != destino) {
+                    vizinhos.set(mantidos, vizinhos.get(i));
+                    pesos[mantidos] = pesos[i];
+                    mantidos++;
+                }
+            }
+            if (mantidos < vizinhos.size()) {
+                vizinhos.subList(mantidos, vizinhos.size()).clear();
+            }
+        }
+        int mantidas = 0;
+        for (int i = 0; i < arestas.size(); i++) {
+            if (arestas.dst(i) != destino) {
+                arestas.set(mantidas++, arestas.src(i), arestas.dst(i), arestas.weight(i));
+            }
+        }
+        arestas.truncate(mantidas);
+        indicePesos = null;
+        if (matrizIncidencia != null) {
+            for (int u = 0; u < vertices; u++) {
+                matrizIncidencia[u][destino] = -1;
+            }
+        }
+        versao++;
+    }
+
+    // Registra o vizinho e mantém o índice e a matriz atualizados, caso já tenham sido montados
+    private void adicionarVizinho(int origem, int destino, int peso) {
+        List<Integer> vizinhos = listaAdjacencia.get(origem);
+        int grau = vizinhos.size();
+        if (grau == pesosAdjacencia[origem].length) {
+            pesosAdjacencia[origem] = Arrays.copyOf(pesosAdjacencia[origem], Math.max(4, 2 * grau));
+        }
+        pesosAdjacencia[origem][grau] = peso;
+        vizinhos.add(destino);
+
+        if (indicePesos != null) {
+            indicePesos.colocar(origem, destino, peso);
+        }
+        if (matrizIncidencia != null) {
+            matrizIncidencia[origem][destino] = peso;
+        }
+        versao++;
     }
 
     // Exibe o grafo em formato de lista de adjacência
@@ -93,6 +322,7 @@ public class Grafo {
 
     // Exibe matriz de adjacência formatada
     public void imprimirMatrizAdjacencia() {
+        int[][] matrizIncidencia = getMatrizIncidencia();
         System.out.println("Matriz de Adjacência:");
         System.out.print("   ");
         // Cabeçalho com índices das colunas
@@ -114,38 +344,28 @@ public class Grafo {
     // Carrega grafo a partir de arquivo de texto
     // Formato: primeira linha = número de vértices, demais linhas = arestas
     // (origem,destino,peso)
-    public static Grafo lerGrafoDeArquivo(String caminhoArquivo, boolean direcionado) throws FileNotFoundException {
-        Scanner arquivo = new Scanner(new File(caminhoArquivo));
+    public static Grafo lerGrafoDeArquivo(String caminhoArquivo, boolean direcionado) throws IOException {
+        // A interpretação do texto é feita em paralelo por LeitorArestas
+        ArquivoArestas arquivo = LeitorArestas.ler(caminhoArquivo);
 
-        // Lê número de vértices da primeira linha
-        int vertices = Integer.parseInt(arquivo.nextLine().trim());
+        // Número de vértices vem da primeira linha
+        int vertices = arquivo.cabecalho[0];
         Grafo grafo = new Grafo(vertices);
 
-        // Lê cada linha de aresta
-        while (arquivo.hasNextLine()) {
-            String linha = arquivo.nextLine().trim();
-            if (linha.isEmpty())
-                continue;
-
-            // Divide linha por vírgula (formato: origem,destino,peso)
-            String[] partes = linha.split(",+");
-            if (partes.length == 3) {
-                int origem = Integer.parseInt(partes[0])-1;
-                int destino = Integer.parseInt(partes[1])-1;
-                int peso = Integer.parseInt(partes[2]);
-
-                // Adiciona aresta baseado no tipo de grafo
-                if (direcionado) {
-                    grafo.adicionarAresta(origem, destino, peso);
-                    grafo.matrizIncidencia[origem][destino] = peso;
-                } else {
-                    grafo.matrizIncidencia[origem][destino] = peso;
-                    grafo.adicionarArestaNaoDirecionada(origem, destino);
-                }
+        EdgeList arestas = arquivo.arestas;
+        for (int i = 0; i < arestas.size(); i++) {
+            int origem = arestas.src(i)-1;
+            int destino = arestas.dst(i)-1;
+            int peso = arestas.weight(i);
+
+            // Adiciona aresta baseado no tipo de grafo
+            if (direcionado) {
+                grafo.adicionarAresta(origem, destino, peso);
+            } else {
+                grafo.adicionarArestaNaoDirecionada(origem, destino, peso);
             }
         }
 
-        arquivo.close();
         return grafo;
     }
 }
@@ -0,0 +1,188 @@
+package Miscs;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Grafo imutável em formato CSR (compressed sparse row).
+ * As arestas que saem do vértice u ocupam as posições [inicio(u), fim(u)) dos vetores de destinos e pesos,
+ * o que permite percorrer vizinhos e pesos sem boxing e sem alocar uma matriz V x V.
+ */
+public final class GrafoCSR implements GrafoEsparso {
+    private final int vertices; // Número de vértices do grafo
+    private final int[] offsets; // offsets[u] = índice da primeira aresta de u (tamanho V+1)
+    private final int[] destinos; // Vértice de destino de cada aresta
+    private final int[] pesos; // Peso de cada aresta, paralelo a destinos
+    private final int pesoMaximo; // Calculado na construção, para a escolha da fila de prioridade
+
+    private GrafoCSR(int vertices, int[] offsets, int[] destinos, int[] pesos) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.destinos = destinos;
+        this.pesos = pesos;
+        int maximo = 0;
+        for (int e = 0; e < offsets[vertices]; e++) {
+            maximo = Math.max(maximo, pesos[e]);
+        }
+        this.pesoMaximo = maximo;
+    }
+
+    @Override
+    public int getVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int getNumArestas() {
+        return offsets[vertices];
+    }
+
+    @Override
+    public int inicio(int u) {
+        return offsets[u];
+    }
+
+    @Override
+    public int fim(int u) {
+        return offsets[u + 1];
+    }
+
+    @Override
+    public int grau(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    @Override
+    public int destino(int aresta) {
+        return destinos[aresta];
+    }
+
+    @Override
+    public int peso(int aresta) {
+        return pesos[aresta];
+    }
+
+    @Override
+    public int pesoMaximo() {
+        return pesoMaximo;
+    }
+
+    /**
+     * Monta o grafo CSR a partir de uma lista de arestas (vértices 0-based)
+     * @param vertices Número de vértices
+     * @param arestas Arestas do grafo
+     * @param direcionado Se false, cada aresta é inserida nos dois sentidos
+     * @return O grafo CSR correspondente
+     */
+    public static GrafoCSR deArestas(int vertices, EdgeList arestas, boolean direcionado) {
+        int m = arestas.size();
+        int total = direcionado ? m : 2 * m;
+        int[] offsets = new int[vertices + 1];
+
+        // Conta o grau de saída de cada vértice
+        for (int i = 0; i < m; i++) {
+            offsets[arestas.src(i) + 1]++;
+            if (!direcionado) offsets[arestas.dst(i) + 1]++;
+        }
+        for (int u = 0; u < vertices; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        // Distribui as arestas nas posições de cada vértice, mantendo a ordem de inserção
+        int[] proximo = Arrays.copyOf(offsets, vertices);
+        int[] destinos = new int[total];
+        int[] pesos = new int[total];
+        for (int i = 0; i < m; i++) {
+            int u = arestas.src(i);
+            int v = arestas.dst(i);
+            int p = proximo[u]++;
+            destinos[p] = v;
+            pesos[p] = arestas.weight(i);
+            if (!direcionado) {
+                p = proximo[v]++;
+                destinos[p] = u;
+                pesos[p] = arestas.weight(i);
+            }
+        }
+
+        return new GrafoCSR(vertices, offsets, destinos, pesos);
+    }
+
+    /**
+     * Converte um Grafo para o formato CSR em O(V+E), usando a lista de adjacência e os pesos paralelos a ela
+     * @param g Grafo de origem
+     * @return O grafo CSR equivalente
+     */
+    public static GrafoCSR deGrafo(Grafo g) {
+        int n = g.getVertices();
+        List<List<Integer>> adj = g.getListaAdjacencia();
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] = offsets[u] + adj.get(u).size();
+        }
+        int[] destinos = new int[offsets[n]];
+        int[] pesos = new int[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            List<Integer> vizinhos = adj.get(u);
+            int[] pesosU = g.getPesosAdjacencia(u);
+            int p = offsets[u];
+            for (int i = 0; i < vizinhos.size(); i++) {
+                destinos[p] = vizinhos.get(i);
+                pesos[p] = pesosU[i];
+                p++;
+            }
+        }
+        return new GrafoCSR(n, offsets, destinos, pesos);
+    }
+
+    /**
+     * Carrega um grafo CSR diretamente do arquivo, sem construir o Grafo intermediário
+     * Formato: primeira linha = número de vértices, demais linhas = arestas (origem,destino,peso)
+     */
+    public static GrafoCSR lerDeArquivo(String caminhoArquivo, boolean direcionado) throws IOException {
+        ArquivoArestas arquivo = LeitorArestas.ler(caminhoArquivo);
+
+        // As arestas do leitor são novas, então podem ser convertidas para 0-based no lugar
+        EdgeList arestas = arquivo.arestas;
+        for (int i = 0; i < arestas.size(); i++) {
+            arestas.set(i, arestas.src(i) - 1, arestas.dst(i) - 1, arestas.weight(i));
+        }
+        return deArestas(arquivo.cabecalho[0], arestas, direcionado);
+    }
+
+    /**
+     * Retorna o grafo transposto, onde cada aresta (u, v) vira (v, u).
+     * As arestas de entrada de cada vértice ficam ordenadas pela origem.
+     */
+    public GrafoCSR transposto() {
+        return transposto(this);
+    }
+
+    /**
+     * Monta em memória o transposto de qualquer grafo esparso (inclusive um grafo mapeado de arquivo)
+     */
+    public static GrafoCSR transposto(GrafoEsparso g) {
+        int n = g.getVertices();
+        int m = g.getNumArestas();
+        int[] tOffsets = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            tOffsets[g.destino(i) + 1]++;
+        }
+        for (int u = 0; u < n; u++) {
+            tOffsets[u + 1] += tOffsets[u];
+        }
+
+        int[] proximo = Arrays.copyOf(tOffsets, n);
+        int[] tDestinos = new int[m];
+        int[] tPesos = new int[m];
+        for (int u = 0; u < n; u++) {
+            for (int i = g.inicio(u); i < g.fim(u); i++) {
+                int p = proximo[g.destino(i)]++;
+                tDestinos[p] = u;
+                tPesos[p] = g.peso(i);
+            }
+        }
+        return new GrafoCSR(n, tOffsets, tDestinos, tPesos);
+    }
+}
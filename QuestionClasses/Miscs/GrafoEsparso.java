@@ -0,0 +1,34 @@
+package Miscs;
+
+/**
+ * Acesso somente leitura às arestas de um grafo armazenado em formato CSR.
+ * As arestas que saem do vértice u ocupam os índices [inicio(u), fim(u)).
+ */
+public interface GrafoEsparso {
+    int getVertices();
+
+    int getNumArestas();
+
+    // Índice da primeira aresta que sai de u
+    int inicio(int u);
+
+    // Índice logo após a última aresta que sai de u
+    int fim(int u);
+
+    int destino(int aresta);
+
+    int peso(int aresta);
+
+    default int grau(int u) {
+        return fim(u) - inicio(u);
+    }
+
+    // Maior peso de aresta do grafo (0 se não houver arestas), usado para escolher a fila de prioridade das buscas
+    default int pesoMaximo() {
+        int maximo = 0;
+        for (int e = 0; e < getNumArestas(); e++) {
+            maximo = Math.max(maximo, peso(e));
+        }
+        return maximo;
+    }
+}
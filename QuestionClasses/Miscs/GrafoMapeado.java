@@ -0,0 +1,186 @@
+package Miscs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grafo CSR lido diretamente de um arquivo binário mapeado em memória (FileChannel.map).
+ * Abrir o arquivo é O(1): nenhuma aresta é copiada para o heap, e o page cache do sistema
+ * operacional é compartilhado entre todos os processos que abrirem o mesmo arquivo.
+ *
+ * Formato do arquivo (inteiros de 32 bits little-endian):
+ *   cabeçalho: MAGICO, VERSAO, vértices, número de arestas
+ *   offsets:   vértices + 1 inteiros
+ *   destinos:  número de arestas inteiros
+ *   pesos:     número de arestas inteiros
+ */
+public final class GrafoMapeado implements GrafoEsparso {
+    public static final int MAGICO = 0x47524146; // "GRAF"
+    public static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 4 * Integer.BYTES;
+
+    private final int vertices;
+    private final int numArestas;
+    private final IntBuffer offsets;
+    private final IntBuffer destinos;
+    private final IntBuffer pesos;
+    private int pesoMaximo = Integer.MIN_VALUE; // Calculado na primeira consulta, para não percorrer o arquivo ao abrir
+
+    private GrafoMapeado(int vertices, int numArestas, IntBuffer offsets, IntBuffer destinos, IntBuffer pesos) {
+        this.vertices = vertices;
+        this.numArestas = numArestas;
+        this.offsets = offsets;
+        this.destinos = destinos;
+        this.pesos = pesos;
+    }
+
+    @Override
+    public int getVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int getNumArestas() {
+        return numArestas;
+    }
+
+    @Override
+    public int inicio(int u) {
+        return offsets.get(u);
+    }
+
+    @Override
+    public int fim(int u) {
+        return offsets.get(u + 1);
+    }
+
+    @Override
+    public int destino(int aresta) {
+        return destinos.get(aresta);
+    }
+
+    @Override
+    public int peso(int aresta) {
+        return pesos.get(aresta);
+    }
+
+    @Override
+    public int pesoMaximo() {
+        if (pesoMaximo == Integer.MIN_VALUE) {
+            pesoMaximo = GrafoEsparso.super.pesoMaximo();
+        }
+        return pesoMaximo;
+    }
+
+    /**
+     * Mapeia um arquivo binário gerado por escrever() em memória
+     * @param caminhoArquivo Caminho do arquivo binário
+     * @return O grafo apoiado no arquivo mapeado
+     * @throws IOException Caso o arquivo não exista ou não esteja no formato esperado
+     */
+    public static GrafoMapeado abrir(String caminhoArquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(Path.of(caminhoArquivo), StandardOpenOption.READ)) {
+            if (canal.size() < TAMANHO_CABECALHO) {
+                throw new IOException("Arquivo muito pequeno para um grafo binário: " + caminhoArquivo);
+            }
+            IntBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_CABECALHO)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            if (cabecalho.get(0) != MAGICO || cabecalho.get(1) != VERSAO) {
+                throw new IOException("Arquivo não é um grafo binário suportado: " + caminhoArquivo);
+            }
+            int vertices = cabecalho.get(2);
+            int numArestas = cabecalho.get(3);
+
+            long posicao = TAMANHO_CABECALHO;
+            long esperado = posicao + 4L * (vertices + 1) + 8L * numArestas;
+            if (canal.size() < esperado) {
+                throw new IOException("Arquivo truncado: " + caminhoArquivo);
+            }
+
+            // Cada seção é mapeada separadamente, pois um único mapeamento é limitado a 2 GB
+            IntBuffer offsets = mapear(canal, posicao, vertices + 1);
+            posicao += 4L * (vertices + 1);
+            IntBuffer destinos = mapear(canal, posicao, numArestas);
+            posicao += 4L * numArestas;
+            IntBuffer pesos = mapear(canal, posicao, numArestas);
+
+            // O mapeamento continua válido depois que o canal é fechado
+            return new GrafoMapeado(vertices, numArestas, offsets, destinos, pesos);
+        }
+    }
+
+    private static IntBuffer mapear(FileChannel canal, long posicao, int quantidade) throws IOException {
+        return canal.map(FileChannel.MapMode.READ_ONLY, posicao, 4L * quantidade)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * Grava um grafo esparso no formato binário lido por abrir()
+     * @param g Grafo a ser gravado
+     * @param caminhoArquivo Caminho do arquivo de saída (sobrescrito se existir)
+     */
+    public static void escrever(GrafoEsparso g, String caminhoArquivo) throws IOException {
+        int n = g.getVertices();
+        int m = g.getNumArestas();
+
+        try (FileChannel canal = FileChannel.open(Path.of(caminhoArquivo), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGICO).putInt(VERSAO).putInt(n).putInt(m);
+            for (int u = 0; u <= n; u++) {
+                buffer = gravarSeCheio(canal, buffer);
+                buffer.putInt(u < n ? g.inicio(u) : m);
+            }
+            for (int i = 0; i < m; i++) {
+                buffer = gravarSeCheio(canal, buffer);
+                buffer.putInt(g.destino(i));
+            }
+            for (int i = 0; i < m; i++) {
+                buffer = gravarSeCheio(canal, buffer);
+                buffer.putInt(g.peso(i));
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        }
+    }
+
+    // Descarrega o buffer no canal quando não houver espaço para mais um inteiro
+    private static ByteBuffer gravarSeCheio(FileChannel canal, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            buffer.clear();
+        }
+        return buffer;
+    }
+
+    /**
+     * Conversor de texto para binário.
+     * Uso: GrafoMapeado arquivoTexto arquivoBinario [direcionado]
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Uso: GrafoMapeado <arquivo texto> <arquivo binário> [direcionado=true]");
+            return;
+        }
+        boolean direcionado = args.length < 3 || Boolean.parseBoolean(args[2]);
+        try {
+            GrafoCSR g = GrafoCSR.lerDeArquivo(args[0], direcionado);
+            escrever(g, args[1]);
+            System.out.println("Grafo convertido: " + g.getVertices() + " vértices, " + g.getNumArestas() + " arestas");
+        } catch (IOException e) {
+            System.out.println("Erro ao converter grafo: " + e.getMessage());
+        }
+    }
+}
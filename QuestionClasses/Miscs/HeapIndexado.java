@@ -0,0 +1,126 @@
+package Miscs;
+
+import java.util.Arrays;
+
+/**
+ * Heap mínimo d-ário indexado por vértice, com chaves inteiras e operação de diminuir chave.
+ * A posição de cada vértice no heap é guardada em um vetor, então diminuirChave é O(log_d V)
+ * e não é preciso inserir entradas duplicadas (nem alocar um par a cada melhoria).
+ * Ao contrário de FilaDial e HeapRadix, não exige chaves monótonas, então é a fila das buscas A* e do Prim.
+ */
+public final class HeapIndexado implements FilaPrioridade {
+    private static final int ARIDADE = 4; // 4 filhos por nó: heap mais raso e melhor uso de cache que o binário
+
+    private final int[] heap; // heap[i] = vértice na posição i
+    private final int[] posicao; // posicao[v] = posição de v no heap, ou -1 se não estiver nele
+    private final int[] chaves; // chaves[v] = prioridade atual de v
+    private int tamanho;
+
+    public HeapIndexado(int vertices) {
+        heap = new int[vertices];
+        posicao = new int[vertices];
+        chaves = new int[vertices];
+        Arrays.fill(posicao, -1);
+    }
+
+    @Override
+    public boolean vazio() {
+        return tamanho == 0;
+    }
+
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public boolean contem(int v) {
+        return posicao[v] != -1;
+    }
+
+    @Override
+    public int chave(int v) {
+        return chaves[v];
+    }
+
+    public int minimo() {
+        return heap[0];
+    }
+
+    /**
+     * Insere v com a chave informada, ou diminui a chave de v se ele já estiver no heap com chave maior
+     */
+    @Override
+    public void inserirOuDiminuir(int v, int chave) {
+        if (posicao[v] == -1) {
+            heap[tamanho] = v;
+            posicao[v] = tamanho;
+            chaves[v] = chave;
+            subir(tamanho++);
+        } else if (chave < chaves[v]) {
+            chaves[v] = chave;
+            subir(posicao[v]);
+        }
+    }
+
+    // Remove e retorna o vértice de menor chave
+    @Override
+    public int removerMinimo() {
+        int min = heap[0];
+        posicao[min] = -1;
+        tamanho--;
+        if (tamanho > 0) {
+            heap[0] = heap[tamanho];
+            posicao[heap[0]] = 0;
+            descer(0);
+        }
+        return min;
+    }
+
+    // Esvazia o heap em O(tamanho), sem percorrer o vetor de posições inteiro
+    @Override
+    public void limpar() {
+        for (int i = 0; i < tamanho; i++) {
+            posicao[heap[i]] = -1;
+        }
+        tamanho = 0;
+    }
+
+    private void subir(int i) {
+        int v = heap[i];
+        int chave = chaves[v];
+        while (i > 0) {
+            int pai = (i - 1) / ARIDADE;
+            int p = heap[pai];
+            if (chaves[p] <= chave) break;
+            heap[i] = p;
+            posicao[p] = i;
+            i = pai;
+        }
+        heap[i] = v;
+        posicao[v] = i;
+    }
+
+    private void descer(int i) {
+        int v = heap[i];
+        int chave = chaves[v];
+        while (true) {
+            int primeiro = ARIDADE * i + 1;
+            if (primeiro >= tamanho) break;
+            int ultimo = Math.min(primeiro + ARIDADE, tamanho);
+
+            // Escolhe o filho de menor chave
+            int menor = primeiro;
+            for (int f = primeiro + 1; f < ultimo; f++) {
+                if (chaves[heap[f]] < chaves[heap[menor]]) menor = f;
+            }
+            if (chaves[heap[menor]] >= chave) break;
+
+            heap[i] = heap[menor];
+            posicao[heap[i]] = i;
+            i = menor;
+        }
+        heap[i] = v;
+        posicao[v] = i;
+    }
+}
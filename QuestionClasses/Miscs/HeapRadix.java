@@ -0,0 +1,133 @@
+package Miscs;
+
+import java.util.Arrays;
+
+/**
+ * Heap radix para chaves inteiras não negativas e monótonas.
+ * O balde de uma chave é dado pelo bit mais significativo em que ela difere da última chave removida, então há
+ * no máximo 32 baldes e cada entrada só desce de balde: O(log C) amortizado por entrada.
+ * Diminuir a chave insere uma nova entrada e deixa a antiga para ser descartada quando aparecer, o que evita
+ * listas ligadas e mantém cada balde em um vetor contíguo.
+ */
+public final class HeapRadix implements FilaPrioridade {
+    private static final int BALDES = 33;
+
+    // Entradas (vértice, chave) de cada balde; entradas com chave diferente de chaves[v] estão obsoletas
+    private final int[][] verticesBalde = new int[BALDES][];
+    private final int[][] chavesBalde = new int[BALDES][];
+    private final int[] ocupados = new int[BALDES];
+    private final boolean[] naFila;
+    private final int[] chaves;
+    private int ultimo; // Última chave removida
+    private int tamanho; // Vértices na fila, sem contar entradas obsoletas
+
+    public HeapRadix(int vertices) {
+        naFila = new boolean[vertices];
+        chaves = new int[vertices];
+        for (int b = 0; b < BALDES; b++) {
+            verticesBalde[b] = new int[16];
+            chavesBalde[b] = new int[16];
+        }
+    }
+
+    @Override
+    public boolean vazio() {
+        return tamanho == 0;
+    }
+
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public boolean contem(int v) {
+        return naFila[v];
+    }
+
+    @Override
+    public int chave(int v) {
+        return chaves[v];
+    }
+
+    @Override
+    public void inserirOuDiminuir(int v, int chave) {
+        if (naFila[v]) {
+            if (chave >= chaves[v]) return;
+        } else {
+            naFila[v] = true;
+            tamanho++;
+        }
+        chaves[v] = chave;
+        adicionar(indice(chave), v, chave);
+    }
+
+    @Override
+    public int removerMinimo() {
+        while (true) {
+            if (ocupados[0] == 0) {
+                redistribuir();
+                continue;
+            }
+            int i = --ocupados[0];
+            int v = verticesBalde[0][i];
+            // Descarta entradas obsoletas (chave diminuída depois ou vértice já removido)
+            if (naFila[v] && chavesBalde[0][i] == chaves[v]) {
+                naFila[v] = false;
+                tamanho--;
+                return v;
+            }
+        }
+    }
+
+    // Esvazia a fila em O(entradas)
+    @Override
+    public void limpar() {
+        for (int b = 0; b < BALDES; b++) {
+            for (int i = 0; i < ocupados[b]; i++) {
+                naFila[verticesBalde[b][i]] = false;
+            }
+            ocupados[b] = 0;
+        }
+        tamanho = 0;
+        ultimo = 0;
+    }
+
+    // Move o primeiro balde não vazio para os baldes menores, a partir da sua menor chave válida
+    private void redistribuir() {
+        int b = 1;
+        while (ocupados[b] == 0) b++;
+        int[] vs = verticesBalde[b];
+        int[] ks = chavesBalde[b];
+        int menor = Integer.MAX_VALUE;
+        for (int i = 0; i < ocupados[b]; i++) {
+            if (naFila[vs[i]] && ks[i] == chaves[vs[i]]) menor = Math.min(menor, ks[i]);
+        }
+        if (menor == Integer.MAX_VALUE) {
+            // Só havia entradas obsoletas
+            ocupados[b] = 0;
+            return;
+        }
+        ultimo = menor;
+        int quantidade = ocupados[b];
+        ocupados[b] = 0;
+        for (int i = 0; i < quantidade; i++) {
+            if (naFila[vs[i]] && ks[i] == chaves[vs[i]]) adicionar(indice(ks[i]), vs[i], ks[i]);
+        }
+    }
+
+    private int indice(int chave) {
+        return chave == ultimo ? 0 : 32 - Integer.numberOfLeadingZeros(chave ^ ultimo);
+    }
+
+    private void adicionar(int b, int v, int chave) {
+        int i = ocupados[b];
+        if (i == verticesBalde[b].length) {
+            verticesBalde[b] = Arrays.copyOf(verticesBalde[b], 2 * i);
+            chavesBalde[b] = Arrays.copyOf(chavesBalde[b], 2 * i);
+        }
+        verticesBalde[b][i] = v;
+        chavesBalde[b][i] = chave;
+        ocupados[b] = i + 1;
+    }
+}
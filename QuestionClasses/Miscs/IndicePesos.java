@@ -0,0 +1,104 @@
+package Miscs;
+
+import java.util.Arrays;
+
+/**
+ * Mapa (origem, destino) -> peso com endereçamento aberto e sondagem linear.
+ * As chaves são empacotadas em um long, então não há objetos por aresta e a memória é O(E).
+ */
+public final class IndicePesos {
+    private static final long VAZIO = -1L; // Vértices são não negativos, então nenhuma chave real vale -1
+
+    private long[] chaves;
+    private int[] pesos;
+    private int tamanho;
+
+    public IndicePesos(int capacidadeEsperada) {
+        // Mantém o fator de carga abaixo de 1/2
+        int capacidade = Integer.highestOneBit(Math.max(4, capacidadeEsperada) * 2 - 1) << 1;
+        chaves = new long[capacidade];
+        pesos = new int[capacidade];
+        Arrays.fill(chaves, VAZIO);
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    private static long chave(int origem, int destino) {
+        return ((long) origem << 32) | (destino & 0xFFFFFFFFL);
+    }
+
+    // Espalha os bits da chave para evitar agrupamento na sondagem linear
+    private static int espalhar(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Registra o peso da aresta (origem, destino), substituindo o valor anterior se existir
+     */
+    public void colocar(int origem, int destino, int peso) {
+        if (2 * (tamanho + 1) > chaves.length) {
+            redimensionar();
+        }
+        long k = chave(origem, destino);
+        int mascara = chaves.length - 1;
+        int i = espalhar(k) & mascara;
+        while (chaves[i] != VAZIO && chaves[i] != k) {
+            i = (i + 1) & mascara;
+        }
+        if (chaves[i] == VAZIO) {
+            chaves[i] = k;
+            tamanho++;
+        }
+        pesos[i] = peso;
+    }
+
+    /**
+     * @return O peso da aresta (origem, destino), ou valorAusente caso ela não exista
+     */
+    public int obter(int origem, int destino, int valorAusente) {
+        long k = chave(origem, destino);
+        int mascara = chaves.length - 1;
+        int i = espalhar(k) & mascara;
+        while (chaves[i] != VAZIO) {
+            if (chaves[i] == k) return pesos[i];
+            i = (i + 1) & mascara;
+        }
+        return valorAusente;
+    }
+
+    public boolean contem(int origem, int destino) {
+        long k = chave(origem, destino);
+        int mascara = chaves.length - 1;
+        int i = espalhar(k) & mascara;
+        while (chaves[i] != VAZIO) {
+            if (chaves[i] == k) return true;
+            i = (i + 1) & mascara;
+        }
+        return false;
+    }
+
+    private void redimensionar() {
+        long[] antigasChaves = chaves;
+        int[] antigosPesos = pesos;
+        chaves = new long[2 * antigasChaves.length];
+        pesos = new int[2 * antigasChaves.length];
+        Arrays.fill(chaves, VAZIO);
+        tamanho = 0;
+
+        int mascara = chaves.length - 1;
+        for (int j = 0; j < antigasChaves.length; j++) {
+            long k = antigasChaves[j];
+            if (k == VAZIO) continue;
+            int i = espalhar(k) & mascara;
+            while (chaves[i] != VAZIO) {
+                i = (i + 1) & mascara;
+            }
+            chaves[i] = k;
+            pesos[i] = antigosPesos[j];
+            tamanho++;
+        }
+    }
+}
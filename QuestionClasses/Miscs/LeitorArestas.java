@@ -0,0 +1,269 @@
+package Miscs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Leitor paralelo dos arquivos de arestas da pasta grafos/.
+ * O arquivo é dividido em blocos de bytes alinhados em quebras de linha, cada bloco é mapeado em memória
+ * e interpretado em um ForkJoinPool, convertendo os inteiros diretamente dos bytes (sem String.split,
+ * regex ou Integer.parseInt). Os blocos são concatenados, na ordem do arquivo, em uma única EdgeList.
+ *
+ * Formatos aceitos:
+ *   - primeira linha não vazia = cabeçalho (ex.: "19" ou "1 15")
+ *   - demais linhas com exatamente três inteiros = arestas "origem,destino,peso" ou "origem destino peso"
+ * Qualquer sequência de caracteres que não seja dígito ou '-' funciona como separador; linhas que não
+ * tenham três inteiros são ignoradas, assim como em Grafo.lerGrafoDeArquivo.
+ */
+public final class LeitorArestas {
+    private static final long TAMANHO_MINIMO_BLOCO = 1 << 20; // 1 MB
+    private static final int JANELA = 1 << 16;
+
+    private LeitorArestas() {
+    }
+
+    public static ArquivoArestas ler(String caminhoArquivo) throws IOException {
+        return ler(caminhoArquivo, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Lê o arquivo de arestas usando o pool informado
+     * @param caminhoArquivo Caminho do arquivo texto
+     * @param pool Pool onde os blocos serão interpretados
+     * @return Cabeçalho e arestas em vetores primitivos, na ordem do arquivo
+     */
+    public static ArquivoArestas ler(String caminhoArquivo, ForkJoinPool pool) throws IOException {
+        try (FileChannel canal = FileChannel.open(Path.of(caminhoArquivo), StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+
+            // Lê o cabeçalho sequencialmente; as arestas começam na linha seguinte
+            Bloco cabecalho = new Bloco();
+            long inicioArestas = lerCabecalho(canal, tamanho, cabecalho);
+            if (cabecalho.qtdLinha == 0) {
+                throw new IOException("Arquivo sem cabeçalho: " + caminhoArquivo);
+            }
+            int[] numerosCabecalho = Arrays.copyOf(cabecalho.linha, Math.min(cabecalho.qtdLinha, cabecalho.linha.length));
+
+            // Divide o restante do arquivo em blocos que terminam em quebra de linha
+            long restante = tamanho - inicioArestas;
+            long tamanhoBloco = Math.max(TAMANHO_MINIMO_BLOCO, restante / (4L * pool.getParallelism()) + 1);
+            tamanhoBloco = Math.min(tamanhoBloco, Integer.MAX_VALUE);
+            long[] limites = dividir(canal, inicioArestas, tamanho, tamanhoBloco);
+
+            Bloco[] blocos = new Bloco[limites.length - 1];
+            try {
+                if (blocos.length == 1) {
+                    // Arquivo pequeno: não compensa despachar para o pool
+                    new LeituraBlocos(canal, limites, blocos, 0, 1).compute();
+                } else if (blocos.length > 1) {
+                    pool.invoke(new LeituraBlocos(canal, limites, blocos, 0, blocos.length));
+                }
+            } catch (RuntimeException e) {
+                // O pool pode reempacotar a exceção lançada pela tarefa; procura a IOException original
+                for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+                    if (causa instanceof IOException) throw (IOException) causa;
+                }
+                throw e;
+            }
+
+            return juntar(numerosCabecalho, blocos);
+        }
+    }
+
+    /**
+     * Interpreta a primeira linha não vazia do arquivo como cabeçalho
+     * @return A posição do primeiro byte após a linha do cabeçalho
+     */
+    private static long lerCabecalho(FileChannel canal, long tamanho, Bloco cabecalho) throws IOException {
+        long posicao = 0;
+        while (posicao < tamanho) {
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, posicao, Math.min(JANELA, tamanho - posicao));
+            for (int i = 0; i < buffer.limit(); i++) {
+                byte c = buffer.get(i);
+                if (c == '\n') {
+                    cabecalho.terminarNumero();
+                    if (cabecalho.qtdLinha > 0) {
+                        return posicao + i + 1;
+                    }
+                } else {
+                    cabecalho.consumir(c);
+                }
+            }
+            posicao += buffer.limit();
+        }
+        cabecalho.terminarNumero();
+        return tamanho;
+    }
+
+    /**
+     * Calcula os limites dos blocos, avançando cada ponto de corte até a próxima quebra de linha
+     */
+    private static long[] dividir(FileChannel canal, long inicio, long tamanho, long tamanhoBloco) throws IOException {
+        long[] limites = new long[16];
+        int qtd = 0;
+        limites[qtd++] = inicio;
+
+        ByteBuffer janela = ByteBuffer.allocate(4096);
+        long atual = inicio;
+        while (atual < tamanho) {
+            long corte = atual + tamanhoBloco;
+            if (corte >= tamanho) {
+                corte = tamanho;
+            } else {
+                corte = proximaQuebra(canal, corte, tamanho, janela);
+            }
+            if (qtd == limites.length) limites = Arrays.copyOf(limites, 2 * qtd);
+            limites[qtd++] = corte;
+            atual = corte;
+        }
+        return Arrays.copyOf(limites, qtd);
+    }
+
+    private static long proximaQuebra(FileChannel canal, long posicao, long tamanho, ByteBuffer janela) throws IOException {
+        while (posicao < tamanho) {
+            janela.clear();
+            int lidos = canal.read(janela, posicao);
+            if (lidos <= 0) break;
+            for (int i = 0; i < lidos; i++) {
+                if (janela.get(i) == '\n') {
+                    return posicao + i + 1;
+                }
+            }
+            posicao += lidos;
+        }
+        return tamanho;
+    }
+
+    // Concatena os blocos na ordem do arquivo
+    private static ArquivoArestas juntar(int[] cabecalho, Bloco[] blocos) {
+        int total = 0;
+        int maiorVertice = 0;
+        for (Bloco b : blocos) {
+            total += b.numArestas;
+            maiorVertice = Math.max(maiorVertice, b.maiorVertice);
+        }
+        if (blocos.length == 1) {
+            Bloco b = blocos[0];
+            return new ArquivoArestas(cabecalho, EdgeList.wrap(b.origem, b.destino, b.peso, b.numArestas), maiorVertice);
+        }
+
+        int[] origem = new int[total];
+        int[] destino = new int[total];
+        int[] peso = new int[total];
+        int p = 0;
+        for (Bloco b : blocos) {
+            System.arraycopy(b.origem, 0, origem, p, b.numArestas);
+            System.arraycopy(b.destino, 0, destino, p, b.numArestas);
+            System.arraycopy(b.peso, 0, peso, p, b.numArestas);
+            p += b.numArestas;
+        }
+        return new ArquivoArestas(cabecalho, EdgeList.wrap(origem, destino, peso, total), maiorVertice);
+    }
+
+    /**
+     * Tarefa fork-join que divide o intervalo de blocos ao meio até restar um único bloco
+     */
+    private static final class LeituraBlocos extends RecursiveAction {
+        private final FileChannel canal;
+        private final long[] limites;
+        private final Bloco[] blocos;
+        private final int de;
+        private final int ate;
+
+        LeituraBlocos(FileChannel canal, long[] limites, Bloco[] blocos, int de, int ate) {
+            this.canal = canal;
+            this.limites = limites;
+            this.blocos = blocos;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected void compute() {
+            if (ate - de > 1) {
+                int meio = (de + ate) >>> 1;
+                invokeAll(new LeituraBlocos(canal, limites, blocos, de, meio),
+                        new LeituraBlocos(canal, limites, blocos, meio, ate));
+                return;
+            }
+
+            try {
+                MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, limites[de], limites[de + 1] - limites[de]);
+                Bloco bloco = new Bloco();
+                for (int i = 0; i < buffer.limit(); i++) {
+                    byte c = buffer.get(i);
+                    if (c == '\n') bloco.terminarLinha();
+                    else bloco.consumir(c);
+                }
+                bloco.terminarLinha();
+                blocos[de] = bloco;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Estado da leitura de um bloco: números da linha corrente e arestas já reconhecidas
+     */
+    private static final class Bloco {
+        final int[] linha = new int[3];
+        int qtdLinha; // Quantidade de números vistos na linha corrente (pode passar de 3)
+        int valor;
+        boolean emNumero;
+        boolean negativo;
+
+        int[] origem = new int[1024];
+        int[] destino = new int[1024];
+        int[] peso = new int[1024];
+        int numArestas;
+        int maiorVertice;
+
+        void consumir(byte c) {
+            if (c >= '0' && c <= '9') {
+                valor = valor * 10 + (c - '0');
+                emNumero = true;
+                return;
+            }
+            terminarNumero();
+            negativo = c == '-';
+        }
+
+        void terminarNumero() {
+            if (emNumero) {
+                if (qtdLinha < linha.length) {
+                    linha[qtdLinha] = negativo ? -valor : valor;
+                }
+                qtdLinha++;
+                valor = 0;
+                emNumero = false;
+            }
+            negativo = false;
+        }
+
+        void terminarLinha() {
+            terminarNumero();
+            if (qtdLinha == 3) {
+                if (numArestas == origem.length) {
+                    origem = Arrays.copyOf(origem, 2 * numArestas);
+                    destino = Arrays.copyOf(destino, 2 * numArestas);
+                    peso = Arrays.copyOf(peso, 2 * numArestas);
+                }
+                origem[numArestas] = linha[0];
+                destino[numArestas] = linha[1];
+                peso[numArestas] = linha[2];
+                numArestas++;
+                maiorVertice = Math.max(maiorVertice, Math.max(linha[0], linha[1]));
+            }
+            qtdLinha = 0;
+        }
+    }
+}
@@ -1,3 +1,9 @@
+import Miscs.EdgeList;
+import Miscs.Grafo;
+import Miscs.GrafoCSR;
+import Miscs.GrafoEsparso;
+import Miscs.HeapIndexado;
+
 import java.util.Arrays;
 
 public class Prim {
@@ -25,6 +31,7 @@ public class Prim {
 
         // Inicializa todos os pesos como Infinito e nenhum vértice na AGM
         Arrays.fill(minWeight, INF);
+        Arrays.fill(parent, -1);
         Arrays.fill(vertices, false);
 
         // s = 1 (indice 0)
@@ -42,7 +49,7 @@ public class Prim {
                 if (vertices[j]) { // j ∈ Z
 
                     for (int k = 0; k < numVertices; k++){
-                        if (!vertices[k] && graphMatrix[j][k] != 0) { // k ∈ N
+                        if (!vertices[k] && graphMatrix[j][k] != INF) { // k ∈ N
                             if (graphMatrix[j][k] < minVal) {
                                 // Seleciona os vértices j e k da aresta de menor peso até o momento
                                 selectedJ = j;
@@ -56,12 +63,13 @@ public class Prim {
                 }
             }
 
-            if (selectedK != -1 && selectedJ != -1) {
-                // Adiciona a aresta (j, k) na AGM
-                minWeight[selectedK] = graphMatrix[selectedJ][selectedK];
-                parent[selectedK] = selectedJ;
-                vertices[selectedK] = true;
-            }
+            // Nenhuma aresta sai de Z: o grafo não é conexo e os vértices restantes ficam fora da árvore
+            if (selectedK == -1) break;
+
+            // Adiciona a aresta (j, k) na AGM
+            minWeight[selectedK] = graphMatrix[selectedJ][selectedK];
+            parent[selectedK] = selectedJ;
+            vertices[selectedK] = true;
             
             // Verifica se algum vértice ainda está fora da AGM
             for (boolean v : vertices) {
@@ -77,6 +85,62 @@ public class Prim {
         printMST(parent, graphMatrix, numVertices);
     }
 
+    /**
+     * Algoritmo de Prim para AGM sobre um grafo em formato CSR.
+     * Cada vértice fora de Z fica em um heap indexado com o peso da menor aresta que o liga a Z, então escolher a
+     * próxima aresta é remover o mínimo e só as arestas do vértice que entra em Z são olhadas: O(E log V).
+     * Quando o heap esvazia com vértices ainda fora de Z, o grafo não é conexo e a busca recomeça do próximo vértice
+     * não visitado, gerando uma floresta geradora mínima.
+     * @param g Grafo CSR não direcionado (cada aresta presente nos dois sentidos).
+     * @return Vetor de pais, pesos e custo da árvore (ou floresta)
+     */
+    public static ResultadoAGM prim(GrafoEsparso g) {
+        int numVertices = g.getVertices();
+        int[] parent = new int[numVertices];
+        int[] minWeight = new int[numVertices];
+        boolean[] vertices = new boolean[numVertices];
+        HeapIndexado heap = new HeapIndexado(numVertices);
+        Arrays.fill(parent, -1);
+
+        long custo = 0;
+        int componentes = 0;
+        for (int raiz = 0; raiz < numVertices; raiz++) {
+            if (vertices[raiz]) continue;
+
+            componentes++;
+            heap.inserirOuDiminuir(raiz, 0);
+            while (!heap.vazio()) {
+                // j entra em Z pela menor aresta (parent[j], j)
+                int j = heap.removerMinimo();
+                vertices[j] = true;
+                if (parent[j] != -1) custo += minWeight[j];
+
+                for (int e = g.inicio(j); e < g.fim(j); e++) {
+                    int k = g.destino(e);
+                    if (vertices[k]) continue;
+                    if (!heap.contem(k) || g.peso(e) < heap.chave(k)) {
+                        parent[k] = j;
+                        minWeight[k] = g.peso(e);
+                        heap.inserirOuDiminuir(k, g.peso(e));
+                    }
+                }
+            }
+        }
+        return new ResultadoAGM(parent, minWeight, custo, componentes);
+    }
+
+    public static ResultadoAGM prim(Grafo g) {
+        return prim(GrafoCSR.deGrafo(g));
+    }
+
+    /**
+     * Algoritmo de Prim para AGM sobre um grafo em formato CSR, imprimindo a árvore.
+     * @param g Grafo CSR não direcionado (cada aresta presente nos dois sentidos).
+     */
+    public static void primMST(GrafoEsparso g) {
+        printMST(prim(g));
+    }
+
     /**
      * Função para imprimir a AGM
      */
@@ -85,6 +149,7 @@ public class Prim {
         System.out.println("Aresta \tPeso");
         int mstCost = 0;
         for (int i = 1; i < numVertices; i++) {
+            if (parent[i] == -1) continue; // fora da árvore (grafo desconexo)
             int peso = graph[parent[i]][i];
             // +1 para transformar índice no número do vértice
             System.out.println((parent[i]+1) + " - " + (i+1) + "\t" + peso);
@@ -94,6 +159,23 @@ public class Prim {
     }
 
 
+    /**
+     * Função para imprimir a AGM (ou floresta) a partir do resultado de prim
+     */
+    private static void printMST(ResultadoAGM agm) {
+        System.out.println("Arestas da Árvore Geradora Mínima (T):");
+        System.out.println("Aresta \tPeso");
+        for (int i = 0; i < agm.pai.length; i++) {
+            if (agm.pai[i] == -1) continue; // raiz de um componente
+            // +1 para transformar índice no número do vértice
+            System.out.println((agm.pai[i]+1) + " - " + (i+1) + "\t" + agm.peso[i]);
+        }
+        System.out.println("Custo Total da AGM: " + agm.custo);
+        if (!agm.isArvore()) {
+            System.out.println("Grafo desconexo: floresta com " + agm.componentes + " componentes");
+        }
+    }
+
     public static void main(String[] args) {
 
         int[][] matrizSlide = {
@@ -111,6 +193,16 @@ public class Prim {
 
         primMST(matrizSlide);
 
+        // Mesmo grafo em CSR, pelo Prim com heap indexado
+        EdgeList arestas = new EdgeList();
+        for (int j = 0; j < matrizSlide.length; j++) {
+            for (int k = 0; k < matrizSlide.length; k++) {
+                if (matrizSlide[j][k] != INF) arestas.add(j, k, matrizSlide[j][k]);
+            }
+        }
+        System.out.println();
+        primMST(GrafoCSR.deArestas(matrizSlide.length, arestas, true));
+
         // Saída para o grafo do slide:
         // Arestas da Árvore Geradora Mínima (T):
         // Aresta  Peso
@@ -0,0 +1,35 @@
+import Miscs.EdgeList;
+
+/**
+ * Árvore (ou floresta) geradora mínima na forma de vetor de pais. Vértices 0-based: pai[v] é o vértice que liga v à
+ * árvore e peso[v] o peso dessa aresta; as raízes (uma por componente conexo) têm pai -1 e peso 0.
+ */
+public class ResultadoAGM {
+    public final int[] pai;
+    public final int[] peso;
+    public final long custo;
+    public final int componentes;
+
+    public ResultadoAGM(int[] pai, int[] peso, long custo, int componentes) {
+        this.pai = pai;
+        this.peso = peso;
+        this.custo = custo;
+        this.componentes = componentes;
+    }
+
+    // Uma árvore só quando o grafo é conexo
+    public boolean isArvore() {
+        return componentes <= 1;
+    }
+
+    /**
+     * Arestas da floresta no formato de Kruskal.kruskalMST: {pai, filho, peso} com vértices 1-based
+     */
+    public EdgeList arestas() {
+        EdgeList arestas = new EdgeList(pai.length);
+        for (int v = 0; v < pai.length; v++) {
+            if (pai[v] != -1) arestas.add(pai[v] + 1, v + 1, peso[v]);
+        }
+        return arestas;
+    }
+}
@@ -0,0 +1,144 @@
+import Miscs.EdgeList;
+import Miscs.GrafoEsparso;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resultado de menores caminhos entre todos os pares, em matrizes achatadas n x n (linha i começa em i * n).
+ * dist[i * n + j] é a distância de i até j (INF se não houver caminho) e next[i * n + j] é o vértice seguinte
+ * a i no menor caminho até j (-1 se não houver caminho). Internamente os vértices são 0-based; os métodos
+ * de consulta recebem vértices 1-based, como FloydWarshall.reconstructPath.
+ */
+public class ResultadoAPSP {
+    public static final int INF = FloydWarshall.INF;
+
+    public final int n;
+    public final int[] dist;
+    public final int[] next;
+
+    public ResultadoAPSP(int n) {
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Matriz " + n + " x " + n + " não cabe em um vetor; use APSPMapeado");
+        }
+        this.n = n;
+        this.dist = new int[n * n];
+        this.next = new int[n * n];
+    }
+
+    /**
+     * Matrizes iniciais do Floyd–Warshall: 0 na diagonal, o menor peso entre arestas paralelas e INF no resto
+     */
+    public static ResultadoAPSP inicial(GrafoEsparso g) {
+        int n = g.getVertices();
+        ResultadoAPSP r = new ResultadoAPSP(n);
+        Arrays.fill(r.dist, INF);
+        Arrays.fill(r.next, -1);
+        for (int u = 0; u < n; u++) {
+            r.dist[u * n + u] = 0;
+            r.next[u * n + u] = u;
+        }
+        for (int u = 0; u < n; u++) {
+            for (int e = g.inicio(u); e < g.fim(u); e++) {
+                int v = g.destino(e);
+                if (g.peso(e) < r.dist[u * n + v]) {
+                    r.dist[u * n + v] = g.peso(e);
+                    r.next[u * n + v] = v;
+                }
+            }
+        }
+        return r;
+    }
+
+    // Distância de u até v (1-based), ou INF se não houver caminho
+    public int distancia(int u, int v) {
+        return dist[(u-1) * n + (v-1)];
+    }
+
+    // Um ciclo negativo aparece como distância negativa de algum vértice até ele mesmo
+    public boolean temCicloNegativo() {
+        for (int i = 0; i < n; i++) {
+            if (dist[i * n + i] < 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Atualiza as matrizes para uma aresta nova ou com peso menor, em O(n²) em vez de recalcular tudo.
+     * Todo caminho que melhora passa pela aresta: d'[i][j] = min(d[i][j], d[i][u] + w + d[v][j]). Pela desigualdade
+     * triangular basta olhar as linhas i com d[i][u] + w < d[i][v] e as colunas j com w + d[v][j] < d[u][j]; a coluna u
+     * e a linha v não mudam, então a atualização pode ser feita na própria matriz.
+     * @param u Origem da aresta (1-based)
+     * @param v Destino da aresta (1-based)
+     * @param w Novo peso; um peso maior que a distância atual de u até v não muda nada
+     * @return true se alguma distância diminuiu
+     * @throws IllegalArgumentException Se a aresta fechar um ciclo negativo; nesse caso as matrizes não são alteradas
+     */
+    public boolean diminuirAresta(int u, int v, int w) {
+        u--;
+        v--;
+        int linhaU = u * n, linhaV = v * n;
+        if (dist[linhaV + u] < INF && (long) w + dist[linhaV + u] < 0) {
+            throw new IllegalArgumentException("A aresta " + (u+1) + " -> " + (v+1) + " com peso " + w + " fecha um ciclo negativo");
+        }
+        if (w >= dist[linhaU + v]) return false;
+
+        // Colunas que melhoram a partir de u e linhas que melhoram até v
+        int[] colunas = new int[n];
+        int quantasColunas = 0;
+        for (int j = 0; j < n; j++) {
+            if (dist[linhaV + j] < INF && (long) w + dist[linhaV + j] < dist[linhaU + j]) {
+                colunas[quantasColunas++] = j;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            int linhaI = i * n;
+            int diu = dist[linhaI + u];
+            if (diu >= INF || (long) diu + w >= dist[linhaI + v]) continue;
+            int antes = diu + w;
+            int primeiro = i == u ? v : next[linhaI + u];
+            for (int c = 0; c < quantasColunas; c++) {
+                int j = colunas[c];
+                int nova = antes + dist[linhaV + j];
+                if (nova < dist[linhaI + j]) {
+                    dist[linhaI + j] = nova;
+                    next[linhaI + j] = primeiro;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Aplica diminuirAresta a cada aresta do lote, em ordem
+     * @param arestas Arestas {origem, destino, peso} com vértices 1-based
+     * @return Quantas arestas diminuíram alguma distância
+     * @throws IllegalArgumentException Se uma aresta fechar um ciclo negativo; as anteriores a ela continuam aplicadas
+     */
+    public int diminuirArestas(EdgeList arestas) {
+        int alteradas = 0;
+        for (int e = 0; e < arestas.size(); e++) {
+            if (diminuirAresta(arestas.src(e), arestas.dst(e), arestas.weight(e))) alteradas++;
+        }
+        return alteradas;
+    }
+
+    /**
+     * Reconstrói o menor caminho seguindo a matriz next
+     * @param u Vértice inicial (1-based)
+     * @param v Vértice final (1-based)
+     * @return Os vértices do caminho (1-based), ou null se não existir caminho
+     */
+    public List<Integer> reconstructPath(int u, int v) {
+        if (next[(u-1) * n + (v-1)] == -1) return null;
+
+        List<Integer> path = new ArrayList<>();
+        path.add(u);
+        while (u != v) {
+            u = next[(u-1) * n + (v-1)] + 1;
+            path.add(u);
+        }
+        return path;
+    }
+}
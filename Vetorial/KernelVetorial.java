@@ -0,0 +1,50 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel min-plus com a Vector API: cada iteração compara uma faixa de j inteira (8 inteiros com AVX2, 16 com AVX-512)
+ * e combina dist, next e saltos com a mesma máscara. O resto da linha, menor que uma faixa, fica com o kernel escalar.
+ * Só deve ser instanciado por KernelMinPlus.vetorial(), que verifica antes se o módulo está presente.
+ * Fica fora de QuestionClasses porque só compila com --add-modules jdk.incubator.vector, sobre as classes já
+ * compiladas de QuestionClasses (ver KernelMinPlus).
+ */
+final class KernelVetorial implements KernelMinPlus {
+    private static final VectorSpecies<Integer> ESPECIE = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void relaxar(int[] dist, int[] next, int[] saltos, int linhaI, int[] distK, int[] saltosK, int linhaK,
+                        int inicio, int fim, int dik, int nik, int sik) {
+        IntVector vik = IntVector.broadcast(ESPECIE, dik);
+        IntVector vnik = IntVector.broadcast(ESPECIE, nik);
+        IntVector vsik = IntVector.broadcast(ESPECIE, sik);
+        int j = inicio;
+        for (int limite = inicio + ESPECIE.loopBound(fim - inicio); j < limite; j += ESPECIE.length()) {
+            IntVector dkj = IntVector.fromArray(ESPECIE, distK, linhaK + j);
+            IntVector dij = IntVector.fromArray(ESPECIE, dist, linhaI + j);
+            // dik < INF e dkj <= INF, então a soma não transborda
+            IntVector soma = dkj.add(vik);
+            VectorMask<Integer> candidato = soma.compare(VectorOperators.LE, dij)
+                    .and(dkj.compare(VectorOperators.LT, INF));
+            // Os saltos só são lidos quando alguma faixa pode melhorar ou empatar
+            if (!candidato.anyTrue()) continue;
+            IntVector sij = IntVector.fromArray(ESPECIE, saltos, linhaI + j);
+            IntVector somaSaltos = IntVector.fromArray(ESPECIE, saltosK, linhaK + j).add(vsik);
+            VectorMask<Integer> empate = soma.compare(VectorOperators.EQ, dij)
+                    .and(dij.compare(VectorOperators.LT, INF))
+                    .and(somaSaltos.compare(VectorOperators.LT, sij));
+            VectorMask<Integer> menor = candidato.and(soma.compare(VectorOperators.LT, dij).or(empate));
+            if (!menor.anyTrue()) continue;
+            dij.blend(soma, menor).intoArray(dist, linhaI + j);
+            sij.blend(somaSaltos, menor).intoArray(saltos, linhaI + j);
+            IntVector.fromArray(ESPECIE, next, linhaI + j).blend(vnik, menor).intoArray(next, linhaI + j);
+        }
+        ESCALAR.relaxar(dist, next, saltos, linhaI, distK, saltosK, linhaK, j, fim, dik, nik, sik);
+    }
+
+    @Override
+    public String toString() {
+        return "vetorial (" + ESPECIE.length() + " x int)";
+    }
+}